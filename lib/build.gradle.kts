@@ -14,6 +14,8 @@ plugins {
     // Apply the java-library plugin for API and implementation separation.
     `java-library`
     jacoco
+    // Benchmarks live in src/jmh and are run with `gradle jmh`
+    alias(libs.plugins.jmh)
 }
 
 repositories {
@@ -46,4 +48,11 @@ tasks.jacocoTestReport {
     reports {
         xml.required = true
     }
-}
\ No newline at end of file
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    // allocation rate is as important as throughput for this library
+    profilers = listOf("gc")
+    includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf())
+}
@@ -0,0 +1,66 @@
+package io.erroj;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 64 threads calling the same breakers, compared with plain Result.of calls.
+ * Throughput is reported for all the threads together, so a closed breaker
+ * should stay close to the baseline, and an open one above it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(64)
+public class CircuitBreakerBenchmark {
+
+    private final CircuitBreaker closed = CircuitBreaker.of(0.5, 100, Duration.ofSeconds(10),
+            Duration.ofMinutes(10));
+
+    private final CircuitBreaker open = CircuitBreaker.of(0.5, 100, Duration.ofSeconds(10),
+            Duration.ofMinutes(10));
+
+    private final IOException failure = new IOException("unavailable");
+
+    @Setup
+    public void openBreaker() {
+        for (int i = 0; i < 100; i++) {
+            open.call(() -> {
+                throw failure;
+            });
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> baselineOk() {
+        return Result.of(() -> 10);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> closedOk() {
+        return closed.call(() -> 10);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> openRejected() {
+        return open.call(() -> {
+            throw failure;
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrBenchmark {
+
+    private final NoSuchElementException failure = new NoSuchElementException("missing");
+
+    private final Result<Integer, NoSuchElementException> err = new Err<>(failure);
+
+    private final RescuePlan<Integer> plan = RescuePlan.of(Rescue.of(NoSuchElementException.class, 0));
+
+    private int id = 42;
+
+    // builds the array the varargs call would, but Result.rescue, being
+    // abstract, can't be @SafeVarargs, so the call itself would warn. Like
+    // Arrays.asList, it only hands the array back
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    private static <V> Rescue<V>[] rescues(Rescue<V>... rescues) {
+        return rescues;
+    }
+
+    @Benchmark
+    public Result<Integer, NoSuchElementException> rescueFirst() {
+        return err.rescue(rescues(
+                Rescue.of(NoSuchElementException.class, 0),
+                Rescue.of(ArithmeticException.class, 1)));
+    }
+
+    @Benchmark
+    public Result<Integer, NoSuchElementException> rescueLast() {
+        return err.rescue(rescues(
+                Rescue.of(ArithmeticException.class, 1),
+                Rescue.of(IllegalStateException.class, 2),
+                Rescue.of(NoSuchElementException.class, 0)));
+    }
+
+    @Benchmark
+    public Result<Integer, NoSuchElementException> rescueMiss() {
+        return err.rescue(rescues(
+                Rescue.of(ArithmeticException.class, 1),
+                Rescue.of(IllegalStateException.class, 2)));
+    }
+
+    /**
+     * Building the error then rescuing it, eagerly or lazily.
+     */
+    @Benchmark
+    public Result<Integer, VariableThrowable> eagerErrRescued() {
+        return Result.<Integer, NoSuchElementException>err(new NoSuchElementException("missing " + id))
+                .andThen((Integer v) -> {
+                })
+                .rescue(plan);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> lazyErrRescued() {
+        return Result.<Integer, NoSuchElementException>lazyErr(NoSuchElementException.class,
+                () -> new NoSuchElementException("missing " + id))
+                .andThen((Integer v) -> {
+                })
+                .rescue(plan);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> andThen() {
+        return err.andThen(v -> v + 1);
+    }
+
+    @Benchmark
+    public void baselineCatch(Blackhole bh) {
+        try {
+            throw failure;
+        } catch (ArithmeticException e) {
+            bh.consume(1);
+        } catch (IllegalStateException e) {
+            bh.consume(2);
+        } catch (NoSuchElementException e) {
+            bh.consume(0);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.erroj;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of an expected failure, depending on the exception it carries, against
+ * the success path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailureBenchmark {
+
+    private static final Failure NOT_FOUND = new Failure("not-found", "No such user");
+
+    private int id = 42;
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> success() {
+        return Result.of(() -> id);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> failureWithStackTrace() {
+        return Result.of(() -> {
+            throw new IllegalArgumentException("No such user");
+        });
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> failureStackless() {
+        return Result.of(() -> {
+            throw new Failure("not-found", "No such user");
+        });
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> failurePreallocated() {
+        return Result.of(() -> {
+            throw NOT_FOUND;
+        });
+    }
+
+    @Benchmark
+    public Result<Integer, Failure> fail() {
+        return Result.fail("not-found", "No such user");
+    }
+
+    @Benchmark
+    public Result<Integer, Failure> errPreallocated() {
+        return Result.err(NOT_FOUND);
+    }
+}
@@ -0,0 +1,49 @@
+package io.erroj;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Result#loop} against a plain loop doing the same work, with a state
+ * that has to be allocated in both cases.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoopBenchmark {
+
+    private record Sum(long remaining, long total) {
+    }
+
+    @Param({ "1000", "1000000" })
+    private long steps;
+
+    @Benchmark
+    public long baselineLoop() {
+        var sum = new Sum(steps, 0);
+        while (sum.remaining() > 0) {
+            sum = new Sum(sum.remaining() - 1, sum.total() + sum.remaining());
+        }
+        return sum.total();
+    }
+
+    @Benchmark
+    public Result<Long, VariableThrowable> loop() {
+        return Result.<Sum, Long, RuntimeException>loop(new Sum(steps, 0), sum -> sum.remaining() == 0
+                ? Result.ok(Step.done(sum.total()))
+                : Result.ok(Step.more(new Sum(sum.remaining() - 1, sum.total() + sum.remaining()))));
+    }
+}
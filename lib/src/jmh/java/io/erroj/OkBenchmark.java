@@ -0,0 +1,80 @@
+package io.erroj;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OkBenchmark {
+
+    private final Result<Integer, VariableThrowable> ok = new Ok<>(42);
+
+    private final Result<Integer, VariableThrowable> forwardedErr = new Err<>(
+            new VariableThrowable(new IllegalStateException()));
+
+    private final Optional<Integer> optional = Optional.of(42);
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> map() {
+        return ok.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> mapChain() {
+        return ok.map(v -> v + 1).map(v -> v * 2).map(v -> v - 3);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> andThenFunction() {
+        return ok.andThen(v -> v + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> andThenConsumer() {
+        return ok.andThen((Integer v) -> {
+        });
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> flatMap() {
+        return ok.flatMap(v -> new Ok<>(v + 1));
+    }
+
+    /**
+     * Each hop forwards a failure produced upstream, which used to add one
+     * VariableThrowable per hop.
+     */
+    @Benchmark
+    public Result<Integer, VariableThrowable> flatMapForwardedErrChain() {
+        Result<Integer, VariableThrowable> result = forwardedErr;
+        for (int i = 0; i < 100; i++) {
+            var previous = result;
+            result = ok.flatMap(v -> previous);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Optional<Integer> baselineOptionalMap() {
+        return optional.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> baselineOptionalMapChain() {
+        return optional.map(v -> v + 1).map(v -> v * 2).map(v -> v - 3);
+    }
+}
@@ -0,0 +1,97 @@
+package io.erroj;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boxed {@link Result} against its primitive specializations, look at
+ * gc.alloc.rate.norm. Values are kept out of the Integer cache on purpose.
+ * When the whole chain is consumed in place escape analysis may remove every
+ * allocation, the *Escaping variants hand the result back to JMH to show the
+ * cost of a result that outlives the call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveResultBenchmark {
+
+    private int intValue = 100_000;
+
+    private long longValue = 100_000L;
+
+    private double doubleValue = 19.99;
+
+    @Benchmark
+    public int boxedInt() {
+        return Result.of(() -> intValue)
+                .map(i -> i * 3)
+                .andThen((Integer i) -> {
+                    return Math.addExact(i, 7);
+                })
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int primitiveInt() {
+        return IntResult.of(() -> intValue)
+                .map(i -> i * 3)
+                .andThen(i -> Math.addExact(i, 7))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> boxedIntEscaping() {
+        return Result.of(() -> intValue).map(i -> i * 3);
+    }
+
+    @Benchmark
+    public IntResult<VariableThrowable> primitiveIntEscaping() {
+        return IntResult.of(() -> intValue).map(i -> i * 3);
+    }
+
+    @Benchmark
+    public long boxedLong() {
+        return Result.of(() -> longValue)
+                .map(l -> l * 3)
+                .andThen((Long l) -> {
+                    return Math.addExact(l, 7L);
+                })
+                .orElse(0L);
+    }
+
+    @Benchmark
+    public long primitiveLong() {
+        return LongResult.of(() -> longValue)
+                .map(l -> l * 3)
+                .andThen(l -> Math.addExact(l, 7L))
+                .orElse(0L);
+    }
+
+    @Benchmark
+    public double boxedDouble() {
+        return Result.of(() -> doubleValue)
+                .map(d -> d * 1.2)
+                .andThen(d -> d + 0.5)
+                .orElse(0.0);
+    }
+
+    @Benchmark
+    public double primitiveDouble() {
+        return DoubleResult.of(() -> doubleValue)
+                .map(d -> d * 1.2)
+                .andThen(d -> d + 0.5)
+                .orElse(0.0);
+    }
+}
@@ -0,0 +1,78 @@
+package io.erroj;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rescuing an error which only matches the last of N rescues, through the
+ * varargs scan and through a prebuilt {@link RescuePlan}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RescuePlanBenchmark {
+
+    private static final List<Class<? extends Exception>> EXCEPTIONS = List.of(
+            ArithmeticException.class, ArrayStoreException.class, ClassCastException.class,
+            IllegalMonitorStateException.class, NegativeArraySizeException.class,
+            UnsupportedOperationException.class, SecurityException.class,
+            java.util.ConcurrentModificationException.class, java.util.EmptyStackException.class,
+            java.util.MissingResourceException.class, java.util.concurrent.CancellationException.class,
+            java.util.concurrent.CompletionException.class, java.util.concurrent.RejectedExecutionException.class,
+            java.io.UncheckedIOException.class, java.lang.reflect.UndeclaredThrowableException.class,
+            java.time.DateTimeException.class, java.nio.BufferOverflowException.class,
+            java.nio.BufferUnderflowException.class, java.nio.ReadOnlyBufferException.class,
+            java.io.IOException.class, java.io.FileNotFoundException.class, java.io.EOFException.class,
+            java.net.URISyntaxException.class, java.net.MalformedURLException.class,
+            java.util.concurrent.TimeoutException.class, java.util.concurrent.ExecutionException.class,
+            InterruptedException.class, CloneNotSupportedException.class, ReflectiveOperationException.class,
+            java.text.ParseException.class, java.sql.SQLException.class,
+            java.util.NoSuchElementException.class);
+
+    @Param({ "2", "8", "32" })
+    private int rescueCount;
+
+    private Rescue<Integer>[] rescues;
+
+    private RescuePlan<Integer> plan;
+
+    private Result<Integer, Exception> err;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        var list = new ArrayList<Rescue<Integer>>();
+        for (var clazz : EXCEPTIONS.subList(EXCEPTIONS.size() - rescueCount, EXCEPTIONS.size())) {
+            list.add(Rescue.of(clazz, list.size()));
+        }
+        rescues = list.toArray(Rescue[]::new);
+        plan = RescuePlan.of(list);
+        err = new Err<>(new java.util.NoSuchElementException());
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> varargs() {
+        return err.rescue(rescues);
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> plan() {
+        return err.rescue(plan);
+    }
+}
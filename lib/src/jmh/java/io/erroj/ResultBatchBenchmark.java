@@ -0,0 +1,56 @@
+package io.erroj;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A function applied to 10 000 elements, one in ten failing, with
+ * {@link Results#mapAll} against a list of Results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBatchBenchmark {
+
+    // preallocated, so that we measure the library and not the JVM building a
+    // stack trace
+    private final ArithmeticException failure = new ArithmeticException("boom");
+
+    private final List<String> inputs = IntStream.range(0, 10_000).mapToObj(Integer::toString).toList();
+
+    private String transform(String s) {
+        if (s.endsWith("7")) {
+            throw failure;
+        }
+        return s;
+    }
+
+    @Benchmark
+    public ResultBatch<String> mapAll() {
+        return Results.mapAll(inputs, this::transform);
+    }
+
+    @Benchmark
+    public List<Result<String, VariableThrowable>> baselineResultList() {
+        var results = new ArrayList<Result<String, VariableThrowable>>(inputs.size());
+        for (var input : inputs) {
+            results.add(Result.of(() -> transform(input)));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,104 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of {@link Result#of} on both paths, against a hand written try/catch
+ * and an {@link Optional} doing the same work.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    // preallocated, so that we measure the library and not the JVM building a
+    // stack trace
+    private final ArithmeticException failure = new ArithmeticException("boom");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private int value = 42;
+
+    private int succeed() {
+        return value;
+    }
+
+    private int fail() {
+        throw failure;
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> ofSupplierOk() {
+        return Result.of(this::succeed);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> ofSupplierErr() {
+        return Result.of(this::fail);
+    }
+
+    @Benchmark
+    public Result<Void, VariableThrowable> ofRunnableOk() {
+        return Result.of(() -> {
+            value++;
+        });
+    }
+
+    @Benchmark
+    public Result<Void, VariableThrowable> ofRunnableErr() {
+        return Result.of(() -> {
+            fail();
+        });
+    }
+
+    // a virtual thread per call, most of the cost is starting and joining it
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> ofWithTimeoutOk() {
+        return Result.ofWithTimeout(this::succeed, TIMEOUT);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> ofWithTimeoutErr() {
+        return Result.ofWithTimeout(this::fail, TIMEOUT);
+    }
+
+    @Benchmark
+    public void baselineTryCatchOk(Blackhole bh) {
+        try {
+            bh.consume(succeed());
+        } catch (ArithmeticException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void baselineTryCatchErr(Blackhole bh) {
+        try {
+            bh.consume(fail());
+        } catch (ArithmeticException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> baselineOptionalOk() {
+        return Optional.of(succeed());
+    }
+}
@@ -0,0 +1,67 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 64 threads reading a warm cache of 1024 keys, a quarter of them cached
+ * Errs, against a plain ConcurrentHashMap holding the same Results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(64)
+public class ResultCacheBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private final ResultCache<Integer, Integer> cache = ResultCache.of(KEYS, Duration.ofHours(1),
+            Duration.ofHours(1), key -> {
+                if (key % 4 == 0)
+                    throw new ArithmeticException("boom");
+                return key;
+            });
+
+    private final ConcurrentHashMap<Integer, Result<Integer, VariableThrowable>> map = new ConcurrentHashMap<>();
+
+    private final Integer[] keys = new Integer[KEYS];
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Setup
+    public void warm() {
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i;
+            map.put(i, cache.get(i));
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> get(Cursor cursor) {
+        return cache.get(keys[cursor.next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> baselineMapGet(Cursor cursor) {
+        return map.get(keys[cursor.next++ & (KEYS - 1)]);
+    }
+}
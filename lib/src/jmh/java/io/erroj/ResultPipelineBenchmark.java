@@ -0,0 +1,59 @@
+package io.erroj;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A prebuilt {@link ResultPipeline} against the same stages chained on
+ * {@link Result}, on both paths.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultPipelineBenchmark {
+
+    private static final ResultPipeline<String, Integer> PIPELINE = ResultPipeline.<String>start()
+            .map(String::trim)
+            .andThen(ResultPipelineBenchmark::parse)
+            .map(i -> i * 2)
+            .flatMap(ResultPipelineBenchmark::positive);
+
+    @Param({ " 4242 ", "-4242", "forty two" })
+    private String input;
+
+    private static Result<Integer, Failure> positive(int i) {
+        return i >= 0 ? Result.ok(i) : Result.fail("negative", "Must be positive");
+    }
+
+    // not overloaded, unlike Integer::parseInt, so that andThen is not ambiguous
+    private static int parse(String s) {
+        return Integer.parseInt(s);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> chain() {
+        return Result.<String, VariableThrowable>ok(input)
+                .map(String::trim)
+                .andThen(ResultPipelineBenchmark::parse)
+                .map(i -> i * 2)
+                .flatMap(ResultPipelineBenchmark::positive);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> pipeline() {
+        return PIPELINE.apply(input);
+    }
+}
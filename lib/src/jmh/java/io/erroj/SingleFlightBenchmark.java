@@ -0,0 +1,76 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Thundering herd: 64 threads loading the same key from a dependency taking
+ * 1ms per call, and able to serve 4 calls at a time, like a small connection
+ * pool.
+ *
+ * The *Calls methods report the downstream calls next to the loads, the
+ * *Latency ones the distribution of load times, p99 included.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(64)
+public class SingleFlightBenchmark {
+
+    private static final Duration LOAD_TIME = Duration.ofMillis(1);
+
+    private final SingleFlight<String, String> flight = new SingleFlight<>();
+
+    private final Bulkhead pool = Bulkhead.queueing(4, 4, Duration.ofMinutes(1), 1000, Duration.ofMinutes(1));
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Downstream {
+        public long downstreamCalls;
+    }
+
+    private Result<String, VariableThrowable> load(Downstream downstream) {
+        return pool.call(() -> {
+            downstream.downstreamCalls++;
+            Thread.sleep(LOAD_TIME);
+            return "user:42";
+        });
+    }
+
+    @Benchmark
+    public Result<String, VariableThrowable> directCalls(Downstream downstream) {
+        return load(downstream);
+    }
+
+    @Benchmark
+    public Result<String, VariableThrowable> singleFlightCalls(Downstream downstream) {
+        return flight.call("user:42", () -> load(downstream).okOrThrow());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public Result<String, VariableThrowable> directLatency(Downstream downstream) {
+        return load(downstream);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public Result<String, VariableThrowable> singleFlightLatency(Downstream downstream) {
+        return flight.call("user:42", () -> load(downstream).okOrThrow());
+    }
+}
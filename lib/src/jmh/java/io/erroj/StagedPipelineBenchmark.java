@@ -0,0 +1,108 @@
+package io.erroj;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sustained load through three stages, the second one twice as slow as the
+ * others, one in ten records failing at the first. Reported per submitted
+ * record, along with the deepest queue seen for each stage, which shows the
+ * slow stage with a full queue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StagedPipelineBenchmark {
+
+    // preallocated, so that we measure the pipeline and not the JVM building a
+    // stack trace
+    private static final IllegalArgumentException FAILURE = new IllegalArgumentException("boom");
+
+    /**
+     * Deepest queue of each stage, sampled every 1024 submits. JMH sums
+     * events over the iterations, so a queue full in each of the 5 shows as
+     * 5 * 1024.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class QueueDepths {
+
+        public int parseQueue;
+
+        public int enrichQueue;
+
+        public int storeQueue;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            parseQueue = 0;
+            enrichQueue = 0;
+            storeQueue = 0;
+        }
+
+        private void sample(List<StagedPipeline.StageStats> stats) {
+            parseQueue = Math.max(parseQueue, stats.get(0).queueDepth());
+            enrichQueue = Math.max(enrichQueue, stats.get(1).queueDepth());
+            storeQueue = Math.max(storeQueue, stats.get(2).queueDepth());
+        }
+    }
+
+    private StagedPipeline.Running<Integer, Integer> running;
+
+    private int next;
+
+    private static Integer work(Integer i, int tokens) {
+        Blackhole.consumeCPU(tokens);
+        return i;
+    }
+
+    @Setup(Level.Iteration)
+    public void start() {
+        running = StagedPipeline.<Integer>source()
+                .stage("parse", 2, 1024, (Integer i) -> {
+                    if (i % 10 == 0)
+                        throw FAILURE;
+                    return work(i, 100);
+                })
+                .stage("enrich", 2, 1024, (Integer i) -> {
+                    return work(i, 200);
+                })
+                .stage("store", 2, 1024, (Integer i) -> {
+                    return work(i, 100);
+                })
+                .start(out -> {
+                }, dead -> {
+                });
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() throws InterruptedException {
+        running.close();
+    }
+
+    @Benchmark
+    public boolean submit(QueueDepths depths) throws InterruptedException {
+        if ((next & 1023) == 0) {
+            depths.sample(running.stats());
+        }
+        return running.submit(next++);
+    }
+}
@@ -0,0 +1,72 @@
+package io.erroj;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A CPU bound function over 10 000 elements, on pools of 1 to 16 workers,
+ * against the sequential {@link Results#mapAll}. Scaling is only meaningful
+ * on a machine with at least as many cores as workers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TraverseParallelBenchmark {
+
+    @Param({ "1", "2", "4", "8", "16" })
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    private final List<Integer> inputs = IntStream.range(0, 10_000).boxed().toList();
+
+    private Integer work(Integer i) {
+        Blackhole.consumeCPU(100);
+        return i;
+    }
+
+    @Setup(Level.Trial)
+    public void startPool() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Result<List<Integer>, VariableThrowable> traverseParallel() {
+        return Results.traverseParallel(inputs, this::work, pool);
+    }
+
+    @Benchmark
+    public ResultBatch<Integer> mapAllParallel() {
+        return Results.mapAllParallel(inputs, this::work, pool);
+    }
+
+    @Benchmark
+    public ResultBatch<Integer> baselineMapAll() {
+        return Results.mapAll(inputs, this::work);
+    }
+}
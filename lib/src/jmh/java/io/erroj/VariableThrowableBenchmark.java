@@ -0,0 +1,57 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariableThrowableBenchmark {
+
+    private final NoSuchElementException failure = new NoSuchElementException("missing");
+
+    private final VariableThrowable vt = new VariableThrowable(failure);
+
+    @Benchmark
+    public VariableThrowable wrap() {
+        return new VariableThrowable(failure);
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> rescueHit() {
+        return vt.rescue(
+                Rescue.of(ArithmeticException.class, 1),
+                Rescue.of(NoSuchElementException.class, 0));
+    }
+
+    @Benchmark
+    public Result<Integer, VariableThrowable> rescueMiss() {
+        return vt.rescue(
+                Rescue.of(ArithmeticException.class, 1),
+                Rescue.of(IllegalStateException.class, 2));
+    }
+
+    @Benchmark
+    public VariableThrowable doOnHit(Blackhole bh) {
+        return vt.doOn(NoSuchElementException.class, bh::consume);
+    }
+
+    @Benchmark
+    public VariableThrowable doOnMiss(Blackhole bh) {
+        return vt.doOn(ArithmeticException.class, bh::consume);
+    }
+}
@@ -0,0 +1,91 @@
+package io.erroj;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A single VariableThrowable read by 1, 8 and 64 threads, like a cached
+ * negative result logged by every request. Throughput is reported for all the
+ * threads together, so it should grow with their number, as long as the
+ * wrapped throwable takes no lock: getCause only does so once it has a non
+ * null cause and doesn't override Throwable.getCause, which synchronizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariableThrowableContentionBenchmark {
+
+    private final VariableThrowable shared = new VariableThrowable(
+            new IllegalStateException("unavailable", new IOException("connection reset")));
+
+    @Benchmark
+    @Threads(1)
+    public Throwable getCause1() {
+        return shared.getCause();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Throwable getCause8() {
+        return shared.getCause();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Throwable getCause64() {
+        return shared.getCause();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String getMessage1() {
+        return shared.getMessage();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String getMessage8() {
+        return shared.getMessage();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String getMessage64() {
+        return shared.getMessage();
+    }
+
+    // Throwable.getStackTrace still synchronizes on the wrapped throwable
+    // while it builds its cached copy, and clones it on every call
+
+    @Benchmark
+    @Threads(1)
+    public StackTraceElement[] getStackTrace1() {
+        return shared.getStackTrace();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public StackTraceElement[] getStackTrace8() {
+        return shared.getStackTrace();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public StackTraceElement[] getStackTrace64() {
+        return shared.getStackTrace();
+    }
+}
@@ -0,0 +1,21 @@
+package io.erroj;
+
+import java.util.List;
+
+/**
+ * Thrown when every one of several attempts failed, each failure is attached
+ * as a suppressed exception, in the order the attempts were made.
+ */
+// final, since the constructor hands this to addSuppressed, which a subclass
+// could observe before it is initialized
+public final class AllFailedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public AllFailedException(String message, List<? extends Throwable> failures) {
+        super(message, null, true, false);
+        for (var failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+}
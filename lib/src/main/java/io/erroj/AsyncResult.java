@@ -0,0 +1,201 @@
+package io.erroj;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Result of a computation running in the background, by default on a virtual
+ * thread.
+ *
+ * It is backed by a CompletableFuture which always completes with a
+ * {@link Result}, so failures come back as an Err holding the original
+ * exception rather than as a CompletionException. Every operation returns
+ * immediately: map, mapErr, flatMap and rescue run on the thread completing
+ * the previous stage, andThen runs on the executor, since checked functions
+ * are usually blocking calls.
+ *
+ * <pre>{@code
+ * AsyncResult.of(() -> client.fetch(id))
+ *         .andThen(response -> parser.parse(response))
+ *         .rescue(Rescue.of(IOException.class, Page.EMPTY))
+ *         .await(); // Result<Page, VariableThrowable>
+ * }</pre>
+ */
+public final class AsyncResult<V, E extends Throwable> {
+
+    private static final Executor VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final CompletableFuture<Result<V, E>> future;
+
+    private final Executor executor;
+
+    private AsyncResult(CompletableFuture<Result<V, E>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the supplier on a new virtual thread.
+     */
+    public static <V> AsyncResult<V, VariableThrowable> of(CheckedSupplier<? extends V> supplier) {
+        return of(supplier, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Runs the supplier on the executor, which also runs the following andThen.
+     */
+    public static <V> AsyncResult<V, VariableThrowable> of(CheckedSupplier<? extends V> supplier,
+            Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.<V>of(supplier), executor), executor);
+    }
+
+    /**
+     * Same as {@link Result#retry}, but every attempt runs on a new virtual
+     * thread, and the waits are scheduled rather than slept.
+     */
+    public static <V> AsyncResult<V, VariableThrowable> retry(CheckedSupplier<? extends V> supplier,
+            RetryPolicy policy) {
+        return retry(supplier, policy, VIRTUAL_THREADS);
+    }
+
+    public static <V> AsyncResult<V, VariableThrowable> retry(CheckedSupplier<? extends V> supplier,
+            RetryPolicy policy, Executor executor) {
+        return new AsyncResult<>(attempt(supplier, policy, executor, executor, 1, 0, System.nanoTime()), executor);
+    }
+
+    private static <V> CompletableFuture<Result<V, VariableThrowable>> attempt(
+            CheckedSupplier<? extends V> supplier, RetryPolicy policy, Executor executor, Executor runOn,
+            int retry, long previousDelay, long start) {
+        return CompletableFuture.supplyAsync(() -> Result.<V>of(supplier), runOn).thenCompose(result -> {
+            if (result.isOk() || !policy.isRetryable(result.errOrThrow())) {
+                return CompletableFuture.completedFuture(result);
+            }
+            long delay = policy.delayNanos(retry, previousDelay, System.nanoTime() - start);
+            if (delay < 0) {
+                return CompletableFuture.completedFuture(result);
+            }
+            return attempt(supplier, policy, executor,
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor),
+                    retry + 1, delay, start);
+        });
+    }
+
+    public static <V, E extends Throwable> AsyncResult<V, E> completed(Result<V, E> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result), VIRTUAL_THREADS);
+    }
+
+    /**
+     * Adapts a CompletionStage, an exceptional completion becomes an Err
+     * holding its cause, unwrapped from any CompletionException or
+     * ExecutionException.
+     */
+    public static <V> AsyncResult<V, VariableThrowable> from(CompletionStage<? extends V> stage) {
+        var future = stage.<Result<V, VariableThrowable>>handle((value, thrown) -> thrown == null
+                ? Ok.of(value)
+                : new Err<>(VariableThrowable.wrap(unwrap(thrown))));
+        return new AsyncResult<>(future.toCompletableFuture(), VIRTUAL_THREADS);
+    }
+
+    private static Throwable unwrap(Throwable thrown) {
+        while ((thrown instanceof CompletionException || thrown instanceof ExecutionException)
+                && thrown.getCause() != null) {
+            thrown = thrown.getCause();
+        }
+        return thrown;
+    }
+
+    public <T> AsyncResult<T, E> map(Function<V, ? extends T> mapper) {
+        return new AsyncResult<>(future.thenApply(result -> result.map(mapper)), executor);
+    }
+
+    public <T extends Throwable> AsyncResult<V, T> mapErr(Function<? super E, ? extends T> mapper) {
+        return new AsyncResult<>(future.thenApply(result -> result.mapErr(mapper)), executor);
+    }
+
+    public <OV, OE extends Throwable> AsyncResult<OV, VariableThrowable> flatMap(
+            ResultMapper<? super V, OV, OE> mapper) {
+        return new AsyncResult<>(future.thenApply(result -> result.flatMap(mapper)), executor);
+    }
+
+    /**
+     * Chains another asynchronous computation, started once this one is Ok.
+     */
+    public <OV, OE extends Throwable> AsyncResult<OV, VariableThrowable> flatMapAsync(
+            Function<? super V, AsyncResult<OV, OE>> mapper) {
+        return new AsyncResult<>(future.thenCompose(result -> switch (result) {
+            case Ok<V, E>(var value) -> mapper.apply(value).future
+                    .thenApply(next -> next.flatMap(Result::ok));
+            case Err<V, E> err -> CompletableFuture.completedFuture(err.itselfCastedToVariableThrowable());
+        }), executor);
+    }
+
+    public <OV> AsyncResult<OV, VariableThrowable> andThen(CheckedFunction<? super V, ? extends OV> mapper) {
+        return new AsyncResult<>(
+                future.thenApplyAsync(result -> result.<OV, VariableThrowable>andThen(mapper), executor),
+                executor);
+    }
+
+    public AsyncResult<V, VariableThrowable> andThen(CheckedConsumer<? super V> consumer) {
+        return new AsyncResult<>(
+                future.thenApplyAsync(result -> result.<VariableThrowable>andThen(consumer), executor),
+                executor);
+    }
+
+    @SafeVarargs
+    public final AsyncResult<V, E> rescue(Rescue<V>... rescues) {
+        return new AsyncResult<>(future.thenApply(result -> result.rescue(rescues)), executor);
+    }
+
+    public AsyncResult<V, E> rescue(RescuePlan<V> plan) {
+        return new AsyncResult<>(future.thenApply(result -> result.rescue(plan)), executor);
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for the Result.
+     *
+     * As with the synchronous Result, an unchecked exception thrown by a map
+     * or mapErr function is not caught: it is thrown from here.
+     */
+    public Result<V, E> await() {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels this stage only, await then throws a CancellationException.
+     *
+     * The stages it depends on, and a supplier or andThen already running, are
+     * neither cancelled nor interrupted: they run to completion, and their
+     * result is dropped.
+     */
+    public boolean cancel() {
+        return future.cancel(true);
+    }
+
+    /**
+     * Copy of the underlying future, completing with the Result, completing it
+     * doesn't affect this AsyncResult.
+     */
+    public CompletableFuture<Result<V, E>> toCompletableFuture() {
+        return future.copy();
+    }
+}
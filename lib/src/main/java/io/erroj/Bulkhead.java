@@ -0,0 +1,224 @@
+package io.erroj;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps the number of concurrent calls sent to a dependency, with a cap that
+ * follows its latency.
+ *
+ * The limit is adjusted after each call, in the AIMD way: it grows by
+ * 1 / limit when a call took at most latencyThreshold while the bulkhead was
+ * at least half used, which is about +1 each time a full limit of calls
+ * succeeded, and it is multiplied by 0.9 when a call took longer. It always
+ * stays between 1 and maxLimit. Errs don't change it, only latency does.
+ *
+ * A call over the limit returns the same preallocated Err of a
+ * {@link BulkheadFullException}, right away, or after waiting up to maxWait
+ * for a slot if it was built with {@link #queueing}. Waiting parks on a
+ * {@link ReentrantLock}, so it doesn't pin virtual threads.
+ *
+ * <pre>{@code
+ * static final Bulkhead INVENTORY = Bulkhead.queueing(10, 200, Duration.ofMillis(50),
+ *         1000, Duration.ofMillis(100));
+ *
+ * INVENTORY.call(() -> client.stock(sku)) // Result<Stock, VariableThrowable>
+ * }</pre>
+ */
+public final class Bulkhead {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private static final VarHandle LIMIT;
+
+    static {
+        try {
+            LIMIT = MethodHandles.lookup().findVarHandle(Bulkhead.class, "limit", double.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final Err<?, VariableThrowable> REJECTED = new Err<>(
+            VariableThrowable.shared(new BulkheadFullException("Bulkhead is full")));
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final int maxWaiting;
+
+    private final long maxWaitNanos;
+
+    private volatile double limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private Bulkhead(int initialLimit, int maxLimit, Duration latencyThreshold, int maxWaiting, Duration maxWait) {
+        if (initialLimit < 1 || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(
+                    "Expected 1 <= initialLimit <= maxLimit, got " + initialLimit + " and " + maxLimit);
+        }
+        if (maxWaiting < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Expected a positive maxWaiting and maxWait, got " + maxWaiting + " and " + maxWait);
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Bulkhead rejecting calls over the limit right away.
+     */
+    public static Bulkhead of(int initialLimit, int maxLimit, Duration latencyThreshold) {
+        return new Bulkhead(initialLimit, maxLimit, latencyThreshold, 0, Duration.ZERO);
+    }
+
+    /**
+     * Bulkhead letting up to maxWaiting calls over the limit wait maxWait for
+     * a slot, before rejecting them.
+     */
+    public static Bulkhead queueing(int initialLimit, int maxLimit, Duration latencyThreshold, int maxWaiting,
+            Duration maxWait) {
+        return new Bulkhead(initialLimit, maxLimit, latencyThreshold, maxWaiting, maxWait);
+    }
+
+    /**
+     * Runs the supplier once a slot is free. If the thread is interrupted
+     * while waiting, the interrupt flag is set back and an Err holding the
+     * InterruptedException is returned.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Result<V, VariableThrowable> call(CheckedSupplier<? extends V> supplier) {
+        try {
+            if (!acquire()) {
+                rejected.increment();
+                // safe, an Err holds no value
+                return (Result<V, VariableThrowable>) REJECTED;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Err<>(VariableThrowable.wrap(e));
+        }
+
+        long start = System.nanoTime();
+        try {
+            return Result.of(supplier);
+        } finally {
+            release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Number of calls allowed to run concurrently right now.
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Number of calls rejected since the bulkhead was built.
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean acquire() throws InterruptedException {
+        if (tryAcquire()) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+
+        // waiting is incremented before trying again under the lock, and
+        // release decrements inFlight before reading waiting, so either this
+        // sees the free slot, or release signals it
+        try {
+            lock.lockInterruptibly();
+            try {
+                long remaining = maxWaitNanos;
+                while (!tryAcquire()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private void release(long latencyNanos) {
+        adjust(latencyNanos, inFlight.getAndDecrement());
+
+        if (waiting.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void adjust(long latencyNanos, int used) {
+        for (;;) {
+            double current = limit;
+            double next;
+            if (latencyNanos > latencyThresholdNanos) {
+                next = Math.max(1, current * BACKOFF_RATIO);
+            } else if (used * 2 >= current) {
+                // only grows while the limit is actually used, otherwise a
+                // quiet period would let it grow without bound
+                next = Math.min(maxLimit, current + 1 / current);
+            } else {
+                return;
+            }
+            if (next == current || LIMIT.compareAndSet(this, current, next)) {
+                return;
+            }
+        }
+    }
+}
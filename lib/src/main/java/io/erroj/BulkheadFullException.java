@@ -0,0 +1,14 @@
+package io.erroj;
+
+/**
+ * Returned by a {@link Bulkhead} when a call can't run, because every slot is
+ * taken and the call couldn't wait for one.
+ */
+public final class BulkheadFullException extends Failure {
+
+    private static final long serialVersionUID = 1L;
+
+    public BulkheadFullException(String message) {
+        super("bulkhead-full", message);
+    }
+}
@@ -0,0 +1,6 @@
+package io.erroj;
+
+@FunctionalInterface
+public interface CheckedDoubleSupplier {
+    double getAsDouble() throws Exception;
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.erroj;
+
+@FunctionalInterface
+public interface CheckedDoubleUnaryOperator {
+    double applyAsDouble(double operand) throws Exception;
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.erroj;
+
+@FunctionalInterface
+public interface CheckedIntSupplier {
+    int getAsInt() throws Exception;
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.erroj;
+
+@FunctionalInterface
+public interface CheckedIntUnaryOperator {
+    int applyAsInt(int operand) throws Exception;
+}
\ No newline at end of file
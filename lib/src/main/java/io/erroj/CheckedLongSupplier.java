@@ -0,0 +1,6 @@
+package io.erroj;
+
+@FunctionalInterface
+public interface CheckedLongSupplier {
+    long getAsLong() throws Exception;
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.erroj;
+
+@FunctionalInterface
+public interface CheckedLongUnaryOperator {
+    long applyAsLong(long operand) throws Exception;
+}
\ No newline at end of file
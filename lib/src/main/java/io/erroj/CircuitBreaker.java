@@ -0,0 +1,184 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stops calling a failing dependency for a while, so that callers get an Err
+ * right away instead of waiting for yet another timeout.
+ *
+ * While CLOSED, every call runs and its outcome is counted over a sliding
+ * window. Once at least minimumCalls calls were made in the window and the
+ * share of Errs reaches failureRate, the breaker opens: for openDuration every
+ * call returns the same preallocated Err of a {@link CircuitOpenException},
+ * without running the supplier. The first call after that is a trial, while it
+ * runs the breaker is HALF_OPEN and other calls are still rejected. It closes
+ * the breaker again if it succeeds, and reopens it otherwise.
+ *
+ * <pre>{@code
+ * static final CircuitBreaker PAYMENTS = CircuitBreaker.of(0.5, 20, Duration.ofSeconds(10),
+ *         Duration.ofSeconds(30));
+ *
+ * PAYMENTS.call(() -> client.charge(order)) // Result<Receipt, VariableThrowable>
+ * }</pre>
+ *
+ * Every Err counts as a failure. Nothing is locked: the state is a single
+ * atomic reference, and outcomes go to striped counters, so a breaker can be
+ * shared by any number of threads.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int BUCKETS = 10;
+
+    private static final long NO_EPOCH = Long.MIN_VALUE;
+
+    private static final Err<?, VariableThrowable> REJECTED = new Err<>(
+            VariableThrowable.shared(new CircuitOpenException("Circuit breaker is open")));
+
+    // state and the time it opened, swapped together, so that a breaker seen
+    // OPEN always comes with the time of that opening
+    private record Status(State state, long openedAt) {
+    }
+
+    private static final Status CLOSED = new Status(State.CLOSED, 0);
+
+    private static final Status HALF_OPEN = new Status(State.HALF_OPEN, 0);
+
+    private final double failureRate;
+
+    private final int minimumCalls;
+
+    private final long bucketNanos;
+
+    private final long openNanos;
+
+    private final Bucket[] window = new Bucket[BUCKETS];
+
+    private final AtomicReference<Status> status = new AtomicReference<>(CLOSED);
+
+    private CircuitBreaker(double failureRate, int minimumCalls, Duration window, Duration openDuration) {
+        if (!(failureRate > 0 && failureRate <= 1)) {
+            throw new IllegalArgumentException("failureRate must be in ]0, 1], got " + failureRate);
+        }
+        if (minimumCalls < 1) {
+            throw new IllegalArgumentException("minimumCalls must be at least 1, got " + minimumCalls);
+        }
+        if (window.toNanos() < BUCKETS || openDuration.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Expected a positive window and openDuration, got " + window + " and " + openDuration);
+        }
+        this.failureRate = failureRate;
+        this.minimumCalls = minimumCalls;
+        this.bucketNanos = window.toNanos() / BUCKETS;
+        this.openNanos = openDuration.toNanos();
+        for (int i = 0; i < BUCKETS; i++) {
+            this.window[i] = new Bucket();
+        }
+    }
+
+    /**
+     * @param failureRate  share of Errs, in ]0, 1], above which the breaker
+     *                     opens
+     * @param minimumCalls calls needed in the window before it may open
+     * @param window       how far back outcomes are counted
+     * @param openDuration how long it rejects calls once open
+     */
+    public static CircuitBreaker of(double failureRate, int minimumCalls, Duration window, Duration openDuration) {
+        return new CircuitBreaker(failureRate, minimumCalls, window, openDuration);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Result<V, VariableThrowable> call(CheckedSupplier<? extends V> supplier) {
+        var current = status.get();
+
+        if (current == CLOSED) {
+            var res = Result.<V>of(supplier);
+            record(res.isErr());
+            return res;
+        }
+
+        if (current.state() == State.OPEN && System.nanoTime() - current.openedAt() >= openNanos
+                && status.compareAndSet(current, HALF_OPEN)) {
+            var res = Result.<V>of(supplier);
+            if (res.isErr()) {
+                open(HALF_OPEN);
+            } else {
+                clearWindow();
+                status.set(CLOSED);
+            }
+            return res;
+        }
+
+        // safe, an Err holds no value
+        return (Result<V, VariableThrowable>) REJECTED;
+    }
+
+    public State state() {
+        return status.get().state();
+    }
+
+    /**
+     * Closes the breaker and forgets the outcomes counted so far.
+     */
+    public void reset() {
+        clearWindow();
+        status.set(CLOSED);
+    }
+
+    private void record(boolean failed) {
+        long now = System.nanoTime();
+        long epoch = Math.floorDiv(now, bucketNanos);
+        var bucket = window[Math.floorMod(epoch, BUCKETS)];
+
+        long seen = bucket.epoch.get();
+        // the first call of a new period recycles the bucket, calls racing
+        // with it may be lost, which only makes the window approximate
+        if (seen != epoch && bucket.epoch.compareAndSet(seen, epoch)) {
+            bucket.successes.reset();
+            bucket.failures.reset();
+        }
+
+        if (!failed) {
+            bucket.successes.increment();
+            return;
+        }
+        bucket.failures.increment();
+
+        long failures = 0;
+        long calls = 0;
+        for (var b : window) {
+            long bucketEpoch = b.epoch.get();
+            if (bucketEpoch != NO_EPOCH && epoch - bucketEpoch < BUCKETS) {
+                long f = b.failures.sum();
+                failures += f;
+                calls += f + b.successes.sum();
+            }
+        }
+        if (calls >= minimumCalls && failures >= failureRate * calls) {
+            open(CLOSED);
+        }
+    }
+
+    private void open(Status from) {
+        // only the caller winning the swap sets when the breaker opened
+        status.compareAndSet(from, new Status(State.OPEN, System.nanoTime()));
+    }
+
+    private void clearWindow() {
+        for (var bucket : window) {
+            bucket.epoch.set(NO_EPOCH);
+        }
+    }
+
+    private static final class Bucket {
+        private final AtomicLong epoch = new AtomicLong(NO_EPOCH);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,14 @@
+package io.erroj;
+
+/**
+ * Returned by an open {@link CircuitBreaker} instead of calling the guarded
+ * supplier.
+ */
+public final class CircuitOpenException extends Failure {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message) {
+        super("circuit-open", message);
+    }
+}
@@ -0,0 +1,102 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Time budget bound to the current thread while some code runs, which
+ * {@link Ok#andThen} and {@link Ok#flatMap} check before running their stage.
+ * Once it expired, they return an Err of a {@link DeadlineExceededException}
+ * instead, so the rest of the chain is skipped.
+ *
+ * <pre>{@code
+ * Deadline.after(Duration.ofMillis(200)).call(() -> Result.of(() -> parse(request))
+ *         .andThen(this::loadUser)       // skipped once the 200ms are spent
+ *         .flatMap(this::loadOrders));
+ * }</pre>
+ *
+ * Bindings nest, the inner code gets the earliest of the two deadlines. map
+ * isn't checked, since its Err type can't hold the exception, nor are other
+ * threads, like the ones of {@link AsyncResult} or {@link Results}.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    // set once and for all by the first binding, so that until then a stage
+    // doesn't even look the thread local up, which would create its entry
+    private static volatile boolean everBound;
+
+    private static final Err<?, VariableThrowable> EXCEEDED = new Err<>(
+            VariableThrowable.shared(new DeadlineExceededException("Deadline exceeded")));
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * The deadline bound to the current thread, if any.
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAt >= 0;
+    }
+
+    /**
+     * Time left before expiry, negative once expired.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAt - System.nanoTime());
+    }
+
+    /**
+     * Runs the supplier with this deadline bound to the current thread.
+     */
+    public <T> T call(Supplier<? extends T> supplier) {
+        if (!everBound) {
+            everBound = true;
+        }
+        var previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.expiresAt - expiresAt < 0 ? previous : this);
+        try {
+            return supplier.get();
+        } finally {
+            // set rather than removed, even when null, since the next lookup
+            // would otherwise allocate the entry again
+            CURRENT.set(previous);
+        }
+    }
+
+    public void run(Runnable runnable) {
+        call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    static boolean isCurrentExpired() {
+        // a flag written once, rather than a count of bindings, which every
+        // thread binding a deadline would write
+        if (!everBound) {
+            return false;
+        }
+        var deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> Result<V, VariableThrowable> exceeded() {
+        // safe, an Err holds no value
+        return (Result<V, VariableThrowable>) EXCEEDED;
+    }
+}
@@ -0,0 +1,14 @@
+package io.erroj;
+
+/**
+ * Returned instead of running a stage of a chain, once the {@link Deadline}
+ * bound to the current thread expired.
+ */
+public final class DeadlineExceededException extends Failure {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(String message) {
+        super("deadline-exceeded", message);
+    }
+}
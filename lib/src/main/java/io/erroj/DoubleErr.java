@@ -0,0 +1,111 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+public record DoubleErr<E extends Throwable>(E thrown) implements DoubleResult<E> {
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public void ifOk(DoubleConsumer consumer) {
+        return;
+    }
+
+    @Override
+    public void ifErr(Consumer<? super E> consumer) {
+        consumer.accept(thrown);
+    }
+
+    @Override
+    public OptionalDouble ok() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(thrown);
+    }
+
+    @Override
+    public double orElse(double other) {
+        return other;
+    }
+
+    @Override
+    public double orElseGet(DoubleSupplier supplier) {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public double okOrThrow() throws NoSuchElementException {
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public double orReThrow() throws E {
+        throw thrown;
+    }
+
+    @Override
+    public E errOrThrow() throws NoSuchElementException {
+        return thrown;
+    }
+
+    @Override
+    public <T extends Throwable> DoubleResult<T> mapErr(Function<? super E, ? extends T> mapper) {
+        return new DoubleErr<T>(mapper.apply(thrown));
+    }
+
+    @Override
+    public DoubleResult<E> map(DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(DoubleToIntFunction mapper) {
+        return new IntErr<>(thrown);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(DoubleToLongFunction mapper) {
+        return new LongErr<>(thrown);
+    }
+
+    @Override
+    public <T> Result<T, E> mapToObj(DoubleFunction<? extends T> mapper) {
+        return new Err<>(thrown);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public DoubleResult<VariableThrowable> andThen(CheckedDoubleUnaryOperator mapper) {
+        if (thrown instanceof VariableThrowable) {
+            // safe, since we check if E is already a VariableThrowable
+            return (DoubleResult<VariableThrowable>) this;
+        }
+        return new DoubleErr<>(new VariableThrowable(thrown));
+    }
+
+    @Override
+    public Result<Double, E> toResult() {
+        return new Err<>(thrown);
+    }
+}
@@ -0,0 +1,112 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+public record DoubleOk<E extends Throwable>(double value) implements DoubleResult<E> {
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public void ifOk(DoubleConsumer consumer) {
+        consumer.accept(value);
+    }
+
+    @Override
+    public void ifErr(Consumer<? super E> consumer) {
+        return;
+    }
+
+    @Override
+    public OptionalDouble ok() {
+        return OptionalDouble.of(value);
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double orElse(double other) {
+        return value;
+    }
+
+    @Override
+    public double orElseGet(DoubleSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public double okOrThrow() throws NoSuchElementException {
+        return value;
+    }
+
+    @Override
+    public double orReThrow() throws E {
+        return value;
+    }
+
+    @Override
+    public E errOrThrow() throws NoSuchElementException {
+        throw new NoSuchElementException();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Throwable> DoubleResult<T> mapErr(Function<? super E, ? extends T> mapper) {
+        // safe, since we casts an hypothetic Err value that doesn't exists
+        return (DoubleResult<T>) this;
+    }
+
+    @Override
+    public DoubleResult<E> map(DoubleUnaryOperator mapper) {
+        return new DoubleOk<>(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public IntResult<E> mapToInt(DoubleToIntFunction mapper) {
+        return new IntOk<>(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult<E> mapToLong(DoubleToLongFunction mapper) {
+        return new LongOk<>(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <T> Result<T, E> mapToObj(DoubleFunction<? extends T> mapper) {
+        return Ok.of(mapper.apply(value));
+    }
+
+    @Override
+    public DoubleResult<VariableThrowable> andThen(CheckedDoubleUnaryOperator mapper) {
+        try {
+            return new DoubleOk<>(mapper.applyAsDouble(value));
+        } catch (Throwable t) {
+            return new DoubleErr<>(VariableThrowable.wrap(t));
+        }
+    }
+
+    @Override
+    public Result<Double, E> toResult() {
+        return new Ok<>(value);
+    }
+}
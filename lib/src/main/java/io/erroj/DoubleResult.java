@@ -0,0 +1,83 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * double specialization of {@link Result}, which keeps the success path free of
+ * boxing.
+ */
+public sealed interface DoubleResult<E extends Throwable> permits DoubleErr, DoubleOk {
+
+    boolean isErr();
+
+    boolean isOk();
+
+    void ifOk(DoubleConsumer consumer);
+
+    void ifErr(Consumer<? super E> consumer);
+
+    OptionalDouble ok();
+
+    Optional<E> err();
+
+    double orElse(double other);
+
+    double orElseGet(DoubleSupplier supplier);
+
+    double okOrThrow() throws NoSuchElementException;
+
+    double orReThrow() throws E;
+
+    E errOrThrow() throws NoSuchElementException;
+
+    <T extends Throwable> DoubleResult<T> mapErr(Function<? super E, ? extends T> mapper);
+
+    DoubleResult<E> map(DoubleUnaryOperator mapper);
+
+    IntResult<E> mapToInt(DoubleToIntFunction mapper);
+
+    LongResult<E> mapToLong(DoubleToLongFunction mapper);
+
+    <T> Result<T, E> mapToObj(DoubleFunction<? extends T> mapper);
+
+    DoubleResult<VariableThrowable> andThen(CheckedDoubleUnaryOperator mapper);
+
+    /**
+     * Boxes the value back into a generic {@link Result}.
+     */
+    Result<Double, E> toResult();
+
+    public static DoubleResult<VariableThrowable> of(CheckedDoubleSupplier supplier) {
+        try {
+            return new DoubleOk<>(supplier.getAsDouble());
+        } catch (Throwable e) {
+            return new DoubleErr<>(VariableThrowable.wrap(e));
+        }
+    }
+
+    /**
+     * Unboxes a generic {@link Result}, an Ok holding null throws a
+     * NullPointerException.
+     */
+    public static <E extends Throwable> DoubleResult<E> from(Result<Double, E> result) {
+        return result.mapToDouble(Double::doubleValue);
+    }
+
+    public static <E extends Throwable> DoubleOk<E> ok(double val) {
+        return new DoubleOk<>(val);
+    }
+
+    public static <E extends Throwable> DoubleErr<E> err(E thrown) {
+        return new DoubleErr<>(thrown);
+    }
+}
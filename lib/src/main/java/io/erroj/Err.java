@@ -5,6 +5,10 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 public record Err<V, E extends Throwable>(E thrown) implements Result<V, E> {
 
@@ -48,6 +52,11 @@ public record Err<V, E extends Throwable>(E thrown) implements Result<V, E> {
         return Optional.of(thrown);
     }
 
+    @Override
+    public Stream<V> stream() {
+        return Stream.empty();
+    }
+
     @Override
     public V recover(Function<E, V> recoverer) {
         return recoverer.apply(thrown);
@@ -108,6 +117,21 @@ public record Err<V, E extends Throwable>(E thrown) implements Result<V, E> {
         return (Result<T, E>) this;
     }
 
+    @Override
+    public IntResult<E> mapToInt(ToIntFunction<? super V> mapper) {
+        return new IntErr<>(thrown);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(ToLongFunction<? super V> mapper) {
+        return new LongErr<>(thrown);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<? super V> mapper) {
+        return new DoubleErr<>(thrown);
+    }
+
     @Override
     public <OV, OE extends Throwable> Result<OV, VariableThrowable> flatMap(
             ResultMapper<? super V, OV, OE> mapper) {
@@ -127,7 +151,7 @@ public record Err<V, E extends Throwable>(E thrown) implements Result<V, E> {
     }
 
     @SuppressWarnings("unchecked")
-    private <OV, OE extends Throwable> Result<OV, VariableThrowable> itselfCastedToVariableThrowable() {
+    <OV, OE extends Throwable> Result<OV, VariableThrowable> itselfCastedToVariableThrowable() {
         if (thrown instanceof VariableThrowable) {
             // safe, since we check if E is already a VariableThrowable
             return (Result<OV, VariableThrowable>) this;
@@ -149,10 +173,28 @@ public record Err<V, E extends Throwable>(E thrown) implements Result<V, E> {
 
         for (var resc : rescues) {
             if (resc.matchedExceptionClass().isInstance(thrown)) {
-                return new Ok<>(resc.rescuedValue());
+                return Ok.of(resc.rescuedValue());
             }
         }
 
         return this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<V, E> rescue(RescuePlan<V> plan) {
+
+        if (thrown instanceof VariableThrowable vt) {
+            // safe, since we check if E is already a VariableThrowable
+            // which is what vt.rescue returns
+            return (Result<V, E>) vt.rescue(plan);
+        }
+
+        var resc = plan.find(thrown);
+        if (resc.isPresent()) {
+            return Ok.of(resc.get().rescuedValue());
+        }
+
+        return this;
+    }
 }
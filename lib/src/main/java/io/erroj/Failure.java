@@ -0,0 +1,40 @@
+package io.erroj;
+
+/**
+ * Lightweight exception for expected failures, like a validation error or a
+ * missing entity.
+ *
+ * It never captures a stack trace and doesn't record suppressed exceptions,
+ * which makes it cheap to create, and safe to preallocate and share between
+ * threads :
+ *
+ * <pre>{@code
+ * static final Failure NOT_FOUND = new Failure("not-found", "No such user");
+ *
+ * return Result.err(NOT_FOUND);
+ * }</pre>
+ */
+public class Failure extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String code;
+
+    public Failure(String code, String message) {
+        this(code, message, null);
+    }
+
+    public Failure(String code, String message, Throwable cause) {
+        super(message, cause, false, false);
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + code + "]: " + getLocalizedMessage();
+    }
+}
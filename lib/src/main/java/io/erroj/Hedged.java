@@ -0,0 +1,17 @@
+package io.erroj;
+
+/**
+ * Outcome of {@link Results#hedge}, along with the number of extra attempts
+ * which were started: hedges because the running ones were slower than the
+ * delay, which is what tunes the delay, and retries because all the running
+ * ones had failed.
+ */
+public record Hedged<V>(Result<V, VariableThrowable> result, int hedges, int retries) {
+
+    /**
+     * Every extra attempt, hedges and retries.
+     */
+    public int extraAttempts() {
+        return hedges + retries;
+    }
+}
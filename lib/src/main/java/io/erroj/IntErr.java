@@ -0,0 +1,111 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+public record IntErr<E extends Throwable>(E thrown) implements IntResult<E> {
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public void ifOk(IntConsumer consumer) {
+        return;
+    }
+
+    @Override
+    public void ifErr(Consumer<? super E> consumer) {
+        consumer.accept(thrown);
+    }
+
+    @Override
+    public OptionalInt ok() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(thrown);
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseGet(IntSupplier supplier) {
+        return supplier.getAsInt();
+    }
+
+    @Override
+    public int okOrThrow() throws NoSuchElementException {
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public int orReThrow() throws E {
+        throw thrown;
+    }
+
+    @Override
+    public E errOrThrow() throws NoSuchElementException {
+        return thrown;
+    }
+
+    @Override
+    public <T extends Throwable> IntResult<T> mapErr(Function<? super E, ? extends T> mapper) {
+        return new IntErr<T>(mapper.apply(thrown));
+    }
+
+    @Override
+    public IntResult<E> map(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public LongResult<E> mapToLong(IntToLongFunction mapper) {
+        return new LongErr<>(thrown);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        return new DoubleErr<>(thrown);
+    }
+
+    @Override
+    public <T> Result<T, E> mapToObj(IntFunction<? extends T> mapper) {
+        return new Err<>(thrown);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IntResult<VariableThrowable> andThen(CheckedIntUnaryOperator mapper) {
+        if (thrown instanceof VariableThrowable) {
+            // safe, since we check if E is already a VariableThrowable
+            return (IntResult<VariableThrowable>) this;
+        }
+        return new IntErr<>(new VariableThrowable(thrown));
+    }
+
+    @Override
+    public Result<Integer, E> toResult() {
+        return new Err<>(thrown);
+    }
+}
@@ -0,0 +1,112 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+public record IntOk<E extends Throwable>(int value) implements IntResult<E> {
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public void ifOk(IntConsumer consumer) {
+        consumer.accept(value);
+    }
+
+    @Override
+    public void ifErr(Consumer<? super E> consumer) {
+        return;
+    }
+
+    @Override
+    public OptionalInt ok() {
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public int orElse(int other) {
+        return value;
+    }
+
+    @Override
+    public int orElseGet(IntSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public int okOrThrow() throws NoSuchElementException {
+        return value;
+    }
+
+    @Override
+    public int orReThrow() throws E {
+        return value;
+    }
+
+    @Override
+    public E errOrThrow() throws NoSuchElementException {
+        throw new NoSuchElementException();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Throwable> IntResult<T> mapErr(Function<? super E, ? extends T> mapper) {
+        // safe, since we casts an hypothetic Err value that doesn't exists
+        return (IntResult<T>) this;
+    }
+
+    @Override
+    public IntResult<E> map(IntUnaryOperator mapper) {
+        return new IntOk<>(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult<E> mapToLong(IntToLongFunction mapper) {
+        return new LongOk<>(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        return new DoubleOk<>(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <T> Result<T, E> mapToObj(IntFunction<? extends T> mapper) {
+        return Ok.of(mapper.apply(value));
+    }
+
+    @Override
+    public IntResult<VariableThrowable> andThen(CheckedIntUnaryOperator mapper) {
+        try {
+            return new IntOk<>(mapper.applyAsInt(value));
+        } catch (Throwable t) {
+            return new IntErr<>(VariableThrowable.wrap(t));
+        }
+    }
+
+    @Override
+    public Result<Integer, E> toResult() {
+        return new Ok<>(value);
+    }
+}
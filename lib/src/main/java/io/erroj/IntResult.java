@@ -0,0 +1,83 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * int specialization of {@link Result}, which keeps the success path free of
+ * boxing.
+ */
+public sealed interface IntResult<E extends Throwable> permits IntErr, IntOk {
+
+    boolean isErr();
+
+    boolean isOk();
+
+    void ifOk(IntConsumer consumer);
+
+    void ifErr(Consumer<? super E> consumer);
+
+    OptionalInt ok();
+
+    Optional<E> err();
+
+    int orElse(int other);
+
+    int orElseGet(IntSupplier supplier);
+
+    int okOrThrow() throws NoSuchElementException;
+
+    int orReThrow() throws E;
+
+    E errOrThrow() throws NoSuchElementException;
+
+    <T extends Throwable> IntResult<T> mapErr(Function<? super E, ? extends T> mapper);
+
+    IntResult<E> map(IntUnaryOperator mapper);
+
+    LongResult<E> mapToLong(IntToLongFunction mapper);
+
+    DoubleResult<E> mapToDouble(IntToDoubleFunction mapper);
+
+    <T> Result<T, E> mapToObj(IntFunction<? extends T> mapper);
+
+    IntResult<VariableThrowable> andThen(CheckedIntUnaryOperator mapper);
+
+    /**
+     * Boxes the value back into a generic {@link Result}.
+     */
+    Result<Integer, E> toResult();
+
+    public static IntResult<VariableThrowable> of(CheckedIntSupplier supplier) {
+        try {
+            return new IntOk<>(supplier.getAsInt());
+        } catch (Throwable e) {
+            return new IntErr<>(VariableThrowable.wrap(e));
+        }
+    }
+
+    /**
+     * Unboxes a generic {@link Result}, an Ok holding null throws a
+     * NullPointerException.
+     */
+    public static <E extends Throwable> IntResult<E> from(Result<Integer, E> result) {
+        return result.mapToInt(Integer::intValue);
+    }
+
+    public static <E extends Throwable> IntOk<E> ok(int val) {
+        return new IntOk<>(val);
+    }
+
+    public static <E extends Throwable> IntErr<E> err(E thrown) {
+        return new IntErr<>(thrown);
+    }
+}
@@ -0,0 +1,111 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+public record LongErr<E extends Throwable>(E thrown) implements LongResult<E> {
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public void ifOk(LongConsumer consumer) {
+        return;
+    }
+
+    @Override
+    public void ifErr(Consumer<? super E> consumer) {
+        consumer.accept(thrown);
+    }
+
+    @Override
+    public OptionalLong ok() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(thrown);
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseGet(LongSupplier supplier) {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public long okOrThrow() throws NoSuchElementException {
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public long orReThrow() throws E {
+        throw thrown;
+    }
+
+    @Override
+    public E errOrThrow() throws NoSuchElementException {
+        return thrown;
+    }
+
+    @Override
+    public <T extends Throwable> LongResult<T> mapErr(Function<? super E, ? extends T> mapper) {
+        return new LongErr<T>(mapper.apply(thrown));
+    }
+
+    @Override
+    public LongResult<E> map(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(LongToIntFunction mapper) {
+        return new IntErr<>(thrown);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        return new DoubleErr<>(thrown);
+    }
+
+    @Override
+    public <T> Result<T, E> mapToObj(LongFunction<? extends T> mapper) {
+        return new Err<>(thrown);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public LongResult<VariableThrowable> andThen(CheckedLongUnaryOperator mapper) {
+        if (thrown instanceof VariableThrowable) {
+            // safe, since we check if E is already a VariableThrowable
+            return (LongResult<VariableThrowable>) this;
+        }
+        return new LongErr<>(new VariableThrowable(thrown));
+    }
+
+    @Override
+    public Result<Long, E> toResult() {
+        return new Err<>(thrown);
+    }
+}
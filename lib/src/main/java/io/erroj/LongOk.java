@@ -0,0 +1,112 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+public record LongOk<E extends Throwable>(long value) implements LongResult<E> {
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public void ifOk(LongConsumer consumer) {
+        consumer.accept(value);
+    }
+
+    @Override
+    public void ifErr(Consumer<? super E> consumer) {
+        return;
+    }
+
+    @Override
+    public OptionalLong ok() {
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public long orElse(long other) {
+        return value;
+    }
+
+    @Override
+    public long orElseGet(LongSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public long okOrThrow() throws NoSuchElementException {
+        return value;
+    }
+
+    @Override
+    public long orReThrow() throws E {
+        return value;
+    }
+
+    @Override
+    public E errOrThrow() throws NoSuchElementException {
+        throw new NoSuchElementException();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Throwable> LongResult<T> mapErr(Function<? super E, ? extends T> mapper) {
+        // safe, since we casts an hypothetic Err value that doesn't exists
+        return (LongResult<T>) this;
+    }
+
+    @Override
+    public LongResult<E> map(LongUnaryOperator mapper) {
+        return new LongOk<>(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public IntResult<E> mapToInt(LongToIntFunction mapper) {
+        return new IntOk<>(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        return new DoubleOk<>(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <T> Result<T, E> mapToObj(LongFunction<? extends T> mapper) {
+        return Ok.of(mapper.apply(value));
+    }
+
+    @Override
+    public LongResult<VariableThrowable> andThen(CheckedLongUnaryOperator mapper) {
+        try {
+            return new LongOk<>(mapper.applyAsLong(value));
+        } catch (Throwable t) {
+            return new LongErr<>(VariableThrowable.wrap(t));
+        }
+    }
+
+    @Override
+    public Result<Long, E> toResult() {
+        return new Ok<>(value);
+    }
+}
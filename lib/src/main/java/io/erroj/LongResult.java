@@ -0,0 +1,83 @@
+package io.erroj;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * long specialization of {@link Result}, which keeps the success path free of
+ * boxing.
+ */
+public sealed interface LongResult<E extends Throwable> permits LongErr, LongOk {
+
+    boolean isErr();
+
+    boolean isOk();
+
+    void ifOk(LongConsumer consumer);
+
+    void ifErr(Consumer<? super E> consumer);
+
+    OptionalLong ok();
+
+    Optional<E> err();
+
+    long orElse(long other);
+
+    long orElseGet(LongSupplier supplier);
+
+    long okOrThrow() throws NoSuchElementException;
+
+    long orReThrow() throws E;
+
+    E errOrThrow() throws NoSuchElementException;
+
+    <T extends Throwable> LongResult<T> mapErr(Function<? super E, ? extends T> mapper);
+
+    LongResult<E> map(LongUnaryOperator mapper);
+
+    IntResult<E> mapToInt(LongToIntFunction mapper);
+
+    DoubleResult<E> mapToDouble(LongToDoubleFunction mapper);
+
+    <T> Result<T, E> mapToObj(LongFunction<? extends T> mapper);
+
+    LongResult<VariableThrowable> andThen(CheckedLongUnaryOperator mapper);
+
+    /**
+     * Boxes the value back into a generic {@link Result}.
+     */
+    Result<Long, E> toResult();
+
+    public static LongResult<VariableThrowable> of(CheckedLongSupplier supplier) {
+        try {
+            return new LongOk<>(supplier.getAsLong());
+        } catch (Throwable e) {
+            return new LongErr<>(VariableThrowable.wrap(e));
+        }
+    }
+
+    /**
+     * Unboxes a generic {@link Result}, an Ok holding null throws a
+     * NullPointerException.
+     */
+    public static <E extends Throwable> LongResult<E> from(Result<Long, E> result) {
+        return result.mapToLong(Long::longValue);
+    }
+
+    public static <E extends Throwable> LongOk<E> ok(long val) {
+        return new LongOk<>(val);
+    }
+
+    public static <E extends Throwable> LongErr<E> err(E thrown) {
+        return new LongErr<>(thrown);
+    }
+}
@@ -5,9 +5,36 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 public record Ok<V, E extends Throwable>(V value) implements Result<V, E> {
 
+    // Ok and Optional are immutable, so the canonical values can be shared
+    // between every Result, whatever their generic types
+    private static final Ok<?, ?> UNIT = new Ok<>(null);
+    private static final Ok<?, ?> TRUE = new Ok<>(Boolean.TRUE);
+    private static final Ok<?, ?> FALSE = new Ok<>(Boolean.FALSE);
+
+    private static final Optional<Boolean> OPTIONAL_TRUE = Optional.of(Boolean.TRUE);
+    private static final Optional<Boolean> OPTIONAL_FALSE = Optional.of(Boolean.FALSE);
+
+    /**
+     * Returns the shared instance for null, TRUE and FALSE, a new Ok otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E extends Throwable> Ok<V, E> of(V value) {
+        if (value == null) {
+            return (Ok<V, E>) UNIT;
+        }
+        if (value instanceof Boolean b) {
+            return (Ok<V, E>) (b ? TRUE : FALSE);
+        }
+        return new Ok<>(value);
+    }
+
     @Override
     public boolean isErr() {
         return false;
@@ -39,7 +66,15 @@ public record Ok<V, E extends Throwable>(V value) implements Result<V, E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Optional<V> ok() {
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (value instanceof Boolean b) {
+            // safe, since V is Boolean
+            return (Optional<V>) (b ? OPTIONAL_TRUE : OPTIONAL_FALSE);
+        }
         return Optional.of(value);
     }
 
@@ -48,6 +83,11 @@ public record Ok<V, E extends Throwable>(V value) implements Result<V, E> {
         return Optional.empty();
     }
 
+    @Override
+    public Stream<V> stream() {
+        return Stream.ofNullable(value);
+    }
+
     @Override
     public V recover(Function<E, V> recoverer) {
         return value();
@@ -105,40 +145,68 @@ public record Ok<V, E extends Throwable>(V value) implements Result<V, E> {
 
     @Override
     public <T> Result<T, E> map(Function<V, ? extends T> mapper) {
-        return new Ok<T, E>(mapper.apply(value));
+        return Ok.of(mapper.apply(value));
+    }
+
+    @Override
+    public IntResult<E> mapToInt(ToIntFunction<? super V> mapper) {
+        return new IntOk<>(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult<E> mapToLong(ToLongFunction<? super V> mapper) {
+        return new LongOk<>(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<? super V> mapper) {
+        return new DoubleOk<>(mapper.applyAsDouble(value));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <OV, OE extends Throwable> Result<OV, VariableThrowable> flatMap(
             ResultMapper<? super V, OV, OE> mapper) {
+        if (Deadline.isCurrentExpired()) {
+            return Deadline.exceeded();
+        }
+
+        var result = mapper.apply(value);
 
-        // the ? extends OV type is lost when we invoke mapErr
-        // mapErr is certified to not alter the Ok value, so the cast is safe
-        return (Result<OV, VariableThrowable>) mapper
-                .apply(value)
-                .<VariableThrowable>mapErr(VariableThrowable::new);
+        if (result instanceof Err<? extends OV, ? extends OE> err) {
+            // reuses the Err as is when it already holds a VariableThrowable
+            return err.itselfCastedToVariableThrowable();
+        }
+
+        // safe, since the Ok value is a subclass of OV and there is no Err value
+        return (Result<OV, VariableThrowable>) result;
     }
 
     @Override
     public <OV, OE extends Throwable> Result<OV, VariableThrowable> andThen(
             CheckedFunction<? super V, ? extends OV> mapper) {
+        if (Deadline.isCurrentExpired()) {
+            return Deadline.exceeded();
+        }
         try {
-            return new Ok<>(mapper.apply(value));
+            return Ok.of(mapper.apply(value));
         } catch (Throwable t) {
-            return new Err<>(new VariableThrowable(t));
+            return new Err<>(VariableThrowable.wrap(t));
         }
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <OE extends Throwable> Result<V, VariableThrowable> andThen(CheckedConsumer<? super V> consumer) {
+        if (Deadline.isCurrentExpired()) {
+            return Deadline.exceeded();
+        }
         try {
             consumer.accept(value);
             // safe, since we cast an hypothetic Err value that doesn't exists
             return (Result<V, VariableThrowable>) this;
         } catch (Throwable t) {
-            return new Err<>(new VariableThrowable(t));
+            return new Err<>(VariableThrowable.wrap(t));
         }
     }
 
@@ -148,4 +216,9 @@ public record Ok<V, E extends Throwable>(V value) implements Result<V, E> {
         return this;
     }
 
+    @Override
+    public Result<V, E> rescue(RescuePlan<V> plan) {
+        return this;
+    }
+
 }
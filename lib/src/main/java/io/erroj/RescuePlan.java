@@ -0,0 +1,61 @@
+package io.erroj;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable set of {@link Rescue}, meant to be built once and reused.
+ *
+ * The matching rescue is looked up once per concrete exception class, then
+ * cached, so rescuing a failure costs a single lookup whatever the number of
+ * rescues. As with {@link Result#rescue(Rescue...)}, the first rescue matching
+ * the exception wins.
+ */
+public final class RescuePlan<V> {
+
+    private final List<Rescue<V>> rescues;
+
+    private final ClassValue<Optional<Rescue<V>>> dispatch = new ClassValue<>() {
+        @Override
+        protected Optional<Rescue<V>> computeValue(Class<?> thrownClass) {
+            for (var resc : rescues) {
+                if (resc.matchedExceptionClass().isAssignableFrom(thrownClass)) {
+                    return Optional.of(resc);
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private RescuePlan(List<Rescue<V>> rescues) {
+        this.rescues = List.copyOf(rescues);
+    }
+
+    @SafeVarargs
+    public static <V> RescuePlan<V> of(Rescue<V>... rescues) {
+        return new RescuePlan<>(List.of(rescues));
+    }
+
+    public static <V> RescuePlan<V> of(List<Rescue<V>> rescues) {
+        return new RescuePlan<>(rescues);
+    }
+
+    public List<Rescue<V>> rescues() {
+        return rescues;
+    }
+
+    /**
+     * Returns the first rescue matching the throwable, if any.
+     */
+    public Optional<Rescue<V>> find(Throwable thrown) {
+        return dispatch.get(thrown.getClass());
+    }
+
+    /**
+     * Returns the first rescue matching the class, if any, without needing an
+     * instance of the throwable.
+     */
+    public Optional<Rescue<V>> find(Class<? extends Throwable> thrownClass) {
+        return dispatch.get(thrownClass);
+    }
+}
@@ -1,11 +1,16 @@
 package io.erroj;
 
+import java.time.Duration;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 public sealed interface Result<V, E extends Throwable> permits Err, Ok {
 
@@ -25,6 +30,11 @@ public sealed interface Result<V, E extends Throwable> permits Err, Ok {
 
     Optional<E> err();
 
+    /**
+     * Stream of the value of an Ok, like {@link #ok()}, empty for an Err.
+     */
+    Stream<V> stream();
+
     V recover(Function<E, V> recoverer);
 
     public <OE extends Throwable> Result<V, OE> flatRecover(
@@ -48,6 +58,12 @@ public sealed interface Result<V, E extends Throwable> permits Err, Ok {
 
     <T> Result<T, E> map(Function<V, ? extends T> mapper);
 
+    IntResult<E> mapToInt(ToIntFunction<? super V> mapper);
+
+    LongResult<E> mapToLong(ToLongFunction<? super V> mapper);
+
+    DoubleResult<E> mapToDouble(ToDoubleFunction<? super V> mapper);
+
     <OV, OE extends Throwable> Result<OV, VariableThrowable> flatMap(
             ResultMapper<? super V, OV, OE> mapper);
 
@@ -60,28 +76,153 @@ public sealed interface Result<V, E extends Throwable> permits Err, Ok {
     @SuppressWarnings("unchecked")
     Result<V, E> rescue(Rescue<V>... rescues);
 
+    Result<V, E> rescue(RescuePlan<V> plan);
+
     public static Result<Void, VariableThrowable> of(CheckedRunnable callable) {
         try {
             callable.run();
-            return new Ok<>(null);
+            return unit();
         } catch (Throwable e) {
-            return new Err<>(new VariableThrowable(e));
+            return new Err<>(VariableThrowable.wrap(e));
         }
     }
 
     public static <V> Result<V, VariableThrowable> of(CheckedSupplier<? extends V> supplier) {
         try {
-            return new Ok<V, VariableThrowable>(supplier.get());
+            return Ok.<V, VariableThrowable>of(supplier.get());
         } catch (Throwable e) {
-            return new Err<V, VariableThrowable>(new VariableThrowable(e));
+            return new Err<V, VariableThrowable>(VariableThrowable.wrap(e));
+        }
+    }
+
+    /**
+     * Runs the supplier on a new virtual thread, and waits at most timeout for
+     * its result, or returns an Err of a TimeoutException.
+     *
+     * On timeout the worker is interrupted, and if it still completes, rather
+     * than throwing an InterruptedException, its result is dropped. Use {@link #ofWithTimeout(CheckedSupplier, Duration,
+     * Consumer)} to handle it.
+     */
+    public static <V> Result<V, VariableThrowable> ofWithTimeout(CheckedSupplier<? extends V> supplier,
+            Duration timeout) {
+        return ofWithTimeout(supplier, timeout, late -> {
+        });
+    }
+
+    /**
+     * Same as {@link #ofWithTimeout(CheckedSupplier, Duration)}, except that a
+     * result completed after the timeout, Ok or Err, is given to onLate, on
+     * the worker thread, unless it is the InterruptedException caused by the
+     * timeout. Whatever the timing, a result is either returned or
+     * given to onLate, never both.
+     *
+     * If the calling thread is interrupted while waiting, the worker is
+     * interrupted too, the interrupt flag is set back and an Err holding the
+     * InterruptedException is returned.
+     */
+    public static <V> Result<V, VariableThrowable> ofWithTimeout(CheckedSupplier<? extends V> supplier,
+            Duration timeout, Consumer<? super Result<V, VariableThrowable>> onLate) {
+        return new TimedCall<V>(supplier, onLate).await(timeout);
+    }
+
+    /**
+     * Calls the supplier until it returns an Ok, or the policy gives up, in
+     * which case the last Err is returned.
+     *
+     * It sleeps between attempts, blocking the calling thread: a virtual
+     * thread unmounts and frees its carrier, a platform thread holds its OS
+     * thread. Use {@link AsyncResult#retry} to not block the caller at all.
+     */
+    public static <V> Result<V, VariableThrowable> retry(CheckedSupplier<? extends V> supplier, RetryPolicy policy) {
+        long start = System.nanoTime();
+        long delay = 0;
+
+        for (int retry = 1;; retry++) {
+            var result = Result.<V>of(supplier);
+            if (result.isOk()) {
+                return result;
+            }
+
+            var failure = result.errOrThrow();
+            delay = policy.isRetryable(failure) ? policy.delayNanos(retry, delay, System.nanoTime() - start) : -1;
+            if (delay < 0) {
+                return result;
+            }
+
+            try {
+                Thread.sleep(Duration.ofNanos(delay));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Runs step from seed until it returns a {@link Step.Done} or an Err, in
+     * constant stack space, whatever the number of steps.
+     *
+     * Meant for recursive computations which would otherwise flatMap into
+     * themselves and overflow the stack :
+     *
+     * <pre>{@code
+     * Result.loop(node, n -> n.isLeaf()
+     *         ? Result.ok(Step.done(n.value()))
+     *         : n.child().map(Step::more));
+     * }</pre>
+     */
+    public static <S, V, E extends Throwable> Result<V, VariableThrowable> loop(S seed,
+            ResultMapper<? super S, Step<S, V>, E> step) {
+        S state = seed;
+        try {
+            while (true) {
+                switch (step.apply(state)) {
+                    case Ok<? extends Step<S, V>, ? extends E>(Step.More<S, V>(var next)) -> state = next;
+                    case Ok<? extends Step<S, V>, ? extends E>(Step.Done<S, V>(var value)) -> {
+                        return Ok.of(value);
+                    }
+                    case Err<? extends Step<S, V>, ? extends E> err -> {
+                        return err.itselfCastedToVariableThrowable();
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            return new Err<>(VariableThrowable.wrap(t));
         }
     }
 
     public static <V, E extends Throwable> Ok<V, E> ok(V val) {
-        return new Ok<>(val);
+        return Ok.of(val);
+    }
+
+    /**
+     * Shared Ok holding no value, returned by every successful
+     * {@link #of(CheckedRunnable)}.
+     */
+    public static <E extends Throwable> Ok<Void, E> unit() {
+        return Ok.of(null);
     }
 
     public static <V, E extends Throwable> Err<V, E> err(E thrown) {
         return new Err<>(thrown);
     }
+
+    /**
+     * Err whose throwable is only built by the supplier when first accessed
+     * through {@link VariableThrowable#getWrapped()}, or any method delegating
+     * to it. Rescuing it never builds it.
+     *
+     * @see VariableThrowable#lazy(Class, Supplier)
+     */
+    public static <V, E extends Throwable> Err<V, VariableThrowable> lazyErr(Class<E> thrownClass,
+            Supplier<? extends E> supplier) {
+        return new Err<>(VariableThrowable.lazy(thrownClass, supplier));
+    }
+
+    /**
+     * Err holding a new stackless {@link Failure}, for expected failures.
+     */
+    public static <V> Err<V, Failure> fail(String code, String message) {
+        return new Err<>(new Failure(code, message));
+    }
 }
@@ -0,0 +1,162 @@
+package io.erroj;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Outcome of a function applied to every element of a list, as returned by
+ * {@link Results#mapAll}, stored by column rather than as one Result per
+ * element.
+ *
+ * Values live in a single array, failures in a bitset, and the throwables in
+ * a sparse array holding only the failed elements, as thrown, without a
+ * VariableThrowable around them. No Ok or Err is created unless asked for with
+ * {@link #get(int)} or {@link #toResult()}, and {@link #forEach(Visitor)}
+ * walks the batch without allocating.
+ */
+public final class ResultBatch<R> {
+
+    /**
+     * Called by {@link #forEach(Visitor)} for each element, in order.
+     */
+    public interface Visitor<R> {
+
+        void onOk(int index, R value);
+
+        void onErr(int index, Throwable error);
+    }
+
+    private final Object[] values;
+
+    private final long[] failed;
+
+    // indexes of the failed elements, in increasing order, and what they threw
+    private final int[] errIndexes;
+
+    private final Throwable[] errors;
+
+    private final int errCount;
+
+    ResultBatch(Object[] values, long[] failed, int[] errIndexes, Throwable[] errors, int errCount) {
+        this.values = values;
+        this.failed = failed;
+        this.errIndexes = errIndexes;
+        this.errors = errors;
+        this.errCount = errCount;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int errCount() {
+        return errCount;
+    }
+
+    public int okCount() {
+        return values.length - errCount;
+    }
+
+    public boolean isErr(int index) {
+        Objects.checkIndex(index, values.length);
+        return (failed[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public boolean isOk(int index) {
+        return !isErr(index);
+    }
+
+    /**
+     * Index of the first failed element, or -1 if none failed.
+     */
+    public int indexOfFirstErr() {
+        return errCount == 0 ? -1 : errIndexes[0];
+    }
+
+    /**
+     * Value of the element at index.
+     *
+     * @throws NoSuchElementException if it failed
+     */
+    @SuppressWarnings("unchecked")
+    public R value(int index) throws NoSuchElementException {
+        if (isErr(index)) {
+            throw new NoSuchElementException("Element " + index + " failed");
+        }
+        // safe, only values of R are stored
+        return (R) values[index];
+    }
+
+    /**
+     * Throwable of the element at index, as thrown.
+     *
+     * @throws NoSuchElementException if it succeeded
+     */
+    public Throwable error(int index) throws NoSuchElementException {
+        if (!isErr(index)) {
+            throw new NoSuchElementException("Element " + index + " succeeded");
+        }
+        return errors[Arrays.binarySearch(errIndexes, 0, errCount, index)];
+    }
+
+    /**
+     * The element at index as a new Result.
+     */
+    public Result<R, VariableThrowable> get(int index) {
+        return isErr(index) ? new Err<>(VariableThrowable.wrap(error(index))) : Ok.of(value(index));
+    }
+
+    /**
+     * Values of the elements which succeeded, in order.
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> okValues() {
+        var ok = new ArrayList<R>(okCount());
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (next < errCount && errIndexes[next] == i) {
+                next++;
+            } else {
+                // safe, only values of R are stored
+                ok.add((R) values[i]);
+            }
+        }
+        return Collections.unmodifiableList(ok);
+    }
+
+    /**
+     * Throwables of the elements which failed, in order.
+     */
+    public List<Throwable> errors() {
+        return List.of(Arrays.copyOf(errors, errCount));
+    }
+
+    /**
+     * Every value, in order, or an Err of the first failure.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<List<R>, VariableThrowable> toResult() {
+        if (errCount > 0) {
+            return new Err<>(VariableThrowable.wrap(errors[0]));
+        }
+        // safe, since every value is an R
+        return Ok.of(Collections.unmodifiableList(Arrays.asList((R[]) values)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Visitor<? super R> visitor) {
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (next < errCount && errIndexes[next] == i) {
+                visitor.onErr(i, errors[next++]);
+            } else {
+                // safe, only values of R are stored
+                visitor.onOk(i, (R) values[i]);
+            }
+        }
+    }
+}
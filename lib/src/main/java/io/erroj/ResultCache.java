@@ -0,0 +1,303 @@
+package io.erroj;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of the Results of a loader, Ok and Err alike, each with its
+ * own time to live, so that a failing key is only retried once errTtl
+ * elapsed, instead of on every read.
+ *
+ * <pre>{@code
+ * static final ResultCache<UserId, User> USERS = ResultCache.refreshing(10_000,
+ *         Duration.ofMinutes(10), Duration.ofSeconds(5), Duration.ofMinutes(8), id -> loadFromDb(id));
+ *
+ * USERS.get(id) // Result<User, VariableThrowable>
+ * }</pre>
+ *
+ * Reads don't lock: a hit is a map lookup and a reference bit set on the
+ * entry. Concurrent misses for a key share a single load, through a
+ * {@link SingleFlight}. Once maximumSize entries are cached, an insert evicts
+ * one with the CLOCK algorithm: the first entry, from where the last eviction
+ * stopped, which wasn't read since the hand went past it.
+ *
+ * When built with {@link #refreshing}, the first hit on an Ok older than
+ * refreshAfter reloads it on a virtual thread, while the stale Ok is still
+ * served. A failed refresh keeps the stale Ok until it expires, and is only
+ * retried once errTtl elapsed.
+ */
+public final class ResultCache<K, V> {
+
+    /**
+     * Counters since the cache was built, errHits being the hits returning a
+     * cached Err.
+     */
+    public record Stats(long hits, long misses, long errHits) {
+
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRatio() {
+            return ratio(hits);
+        }
+
+        public double missRatio() {
+            return ratio(misses);
+        }
+
+        public double errHitRatio() {
+            return ratio(errHits);
+        }
+
+        private double ratio(long count) {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) count / requests;
+        }
+    }
+
+    private record Entry<V>(Result<V, VariableThrowable> result, long expiresAt, long refreshAt) {
+    }
+
+    private static final class Node<K, V> {
+
+        private static final VarHandle REFRESHING;
+
+        static {
+            try {
+                REFRESHING = MethodHandles.lookup().findVarHandle(Node.class, "refreshing", boolean.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final K key;
+
+        private volatile Entry<V> entry;
+
+        // CLOCK reference bit, racy on purpose, a lost update only changes
+        // which entry is evicted
+        private boolean referenced;
+
+        private volatile boolean refreshing;
+
+        // index in the CLOCK ring, only touched under the lock
+        private int slot;
+
+        private Node(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+
+        private boolean startRefresh() {
+            return REFRESHING.compareAndSet(this, false, true);
+        }
+    }
+
+    private static final long NO_REFRESH = -1;
+
+    private final CheckedFunction<? super K, ? extends V> loader;
+
+    private final long okTtlNanos;
+
+    private final long errTtlNanos;
+
+    private final long refreshNanos;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+
+    private final SingleFlight<K, Result<V, VariableThrowable>> loads = new SingleFlight<>();
+
+    // CLOCK ring, only touched under the lock
+    private final Node<K, V>[] slots;
+
+    private int used;
+
+    private int hand;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder errHits = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private ResultCache(int maximumSize, Duration okTtl, Duration errTtl, long refreshNanos,
+            CheckedFunction<? super K, ? extends V> loader) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1, got " + maximumSize);
+        }
+        if (okTtl.isNegative() || errTtl.isNegative()) {
+            throw new IllegalArgumentException("Expected positive TTLs, got " + okTtl + " and " + errTtl);
+        }
+        this.slots = (Node<K, V>[]) new Node<?, ?>[maximumSize];
+        this.okTtlNanos = okTtl.toNanos();
+        this.errTtlNanos = errTtl.toNanos();
+        this.refreshNanos = refreshNanos;
+        this.loader = loader;
+    }
+
+    public static <K, V> ResultCache<K, V> of(int maximumSize, Duration okTtl, Duration errTtl,
+            CheckedFunction<? super K, ? extends V> loader) {
+        return new ResultCache<>(maximumSize, okTtl, errTtl, NO_REFRESH, loader);
+    }
+
+    /**
+     * Cache reloading an Ok in the background once it is older than
+     * refreshAfter, which should be shorter than okTtl.
+     */
+    public static <K, V> ResultCache<K, V> refreshing(int maximumSize, Duration okTtl, Duration errTtl,
+            Duration refreshAfter, CheckedFunction<? super K, ? extends V> loader) {
+        if (refreshAfter.isNegative()) {
+            throw new IllegalArgumentException("Expected a positive refreshAfter, got " + refreshAfter);
+        }
+        return new ResultCache<>(maximumSize, okTtl, errTtl, refreshAfter.toNanos(), loader);
+    }
+
+    /**
+     * The cached Result for key, or the one of the loader, called at most once
+     * at a time per key.
+     */
+    public Result<V, VariableThrowable> get(K key) {
+        var node = map.get(key);
+        if (node != null) {
+            var entry = node.entry;
+            long now = System.nanoTime();
+            if (now - entry.expiresAt() < 0) {
+                if (!node.referenced) {
+                    node.referenced = true;
+                }
+                hits.increment();
+                if (entry.result().isErr()) {
+                    errHits.increment();
+                } else if (now - entry.refreshAt() >= 0 && node.startRefresh()) {
+                    refresh(node);
+                }
+                return entry.result();
+            }
+        }
+
+        misses.increment();
+        return switch (loads.call(key, () -> load(key))) {
+            case Ok<Result<V, VariableThrowable>, VariableThrowable>(var loaded) -> loaded;
+            case Err<Result<V, VariableThrowable>, VariableThrowable> err -> err.itselfCastedToVariableThrowable();
+        };
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            var node = map.remove(key);
+            if (node != null) {
+                freeSlot(node.slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), errHits.sum());
+    }
+
+    private Result<V, VariableThrowable> load(K key) {
+        var result = Result.<V>of(() -> loader.apply(key));
+        put(key, result);
+        return result;
+    }
+
+    private void refresh(Node<K, V> node) {
+        Thread.ofVirtual().start(() -> {
+            try {
+                var result = Result.<V>of(() -> loader.apply(node.key));
+                // an invalidated or evicted node is never put back
+                if (map.get(node.key) != node) {
+                    return;
+                }
+                if (result.isOk()) {
+                    node.entry = entry(result);
+                } else {
+                    // the stale Ok stays, but the next refresh waits for
+                    // errTtl, as a cached Err would
+                    var stale = node.entry;
+                    node.entry = new Entry<>(stale.result(), stale.expiresAt(), System.nanoTime() + errTtlNanos);
+                }
+            } finally {
+                node.refreshing = false;
+            }
+        });
+    }
+
+    private Entry<V> entry(Result<V, VariableThrowable> result) {
+        long now = System.nanoTime();
+        long expiresAt = now + (result.isOk() ? okTtlNanos : errTtlNanos);
+        long refreshAt = result.isOk() && refreshNanos != NO_REFRESH ? now + refreshNanos : expiresAt;
+        return new Entry<>(result, expiresAt, refreshAt);
+    }
+
+    private void put(K key, Result<V, VariableThrowable> result) {
+        var entry = entry(result);
+
+        var node = map.get(key);
+        if (node != null) {
+            node.entry = entry;
+            return;
+        }
+
+        lock.lock();
+        try {
+            node = map.get(key);
+            if (node != null) {
+                node.entry = entry;
+                return;
+            }
+            node = new Node<>(key, entry);
+            node.slot = nextSlot();
+            slots[node.slot] = node;
+            map.put(key, node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int nextSlot() {
+        if (used < slots.length) {
+            return used++;
+        }
+        while (true) {
+            var node = slots[hand];
+            int slot = hand;
+            hand = (hand + 1) % slots.length;
+            if (node.referenced) {
+                node.referenced = false;
+            } else {
+                map.remove(node.key, node);
+                return slot;
+            }
+        }
+    }
+
+    // keeps the used slots contiguous, by moving the last one into the hole
+    private void freeSlot(int slot) {
+        used--;
+        var last = slots[used];
+        slots[used] = null;
+        if (slot != used) {
+            slots[slot] = last;
+            last.slot = slot;
+        }
+        if (hand >= used) {
+            hand = 0;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.erroj;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Collectors of streams of Results.
+ *
+ * They are safe in parallel streams: each thread accumulates into its own
+ * chunks of values, and combining two partial results links their chunks
+ * instead of copying them, the values are only copied once, into the final
+ * list.
+ */
+public final class ResultCollectors {
+
+    private ResultCollectors() {
+    }
+
+    /**
+     * Values of the Oks and throwables of the Errs of a stream, in encounter
+     * order.
+     */
+    public record Partition<V, E extends Throwable>(List<V> oks, List<E> errs) {
+    }
+
+    /**
+     * Every value, in encounter order, or the first Err.
+     *
+     * Elements after the first Err are ignored, but a collector can't stop
+     * the stream, use {@link Results#upToFirstErr} for that.
+     */
+    public static <V, E extends Throwable> Collector<Result<? extends V, ? extends E>, ?, Result<List<V>, E>> toResultList() {
+        return Collector.of(
+                ResultList<V, E>::new,
+                ResultList::add,
+                ResultList::combine,
+                ResultList::toResult);
+    }
+
+    /**
+     * Values of the Oks and throwables of the Errs, in a single pass.
+     */
+    public static <V, E extends Throwable> Collector<Result<? extends V, ? extends E>, ?, Partition<V, E>> partitioning() {
+        return Collector.of(
+                Partitioned<V, E>::new,
+                Partitioned::add,
+                Partitioned::combine,
+                Partitioned::toPartition);
+    }
+
+    /**
+     * Linked chunks of values, so that appending a whole other Chunks is
+     * O(1).
+     */
+    private static final class Chunks<T> {
+
+        private static final class Chunk<T> {
+            private final ArrayList<T> values = new ArrayList<>();
+            private Chunk<T> next;
+        }
+
+        private Chunk<T> head = new Chunk<>();
+
+        private Chunk<T> tail = head;
+
+        private int size;
+
+        private void add(T value) {
+            tail.values.add(value);
+            size++;
+        }
+
+        private void append(Chunks<T> other) {
+            tail.next = other.head;
+            tail = other.tail;
+            size += other.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> toList() {
+            var all = new Object[size];
+            int i = 0;
+            for (var chunk = head; chunk != null; chunk = chunk.next) {
+                for (var value : chunk.values) {
+                    all[i++] = value;
+                }
+            }
+            // safe, since only values of T were added, and allows nulls
+            return Collections.unmodifiableList(Arrays.asList((T[]) all));
+        }
+    }
+
+    private static final class ResultList<V, E extends Throwable> {
+
+        private final Chunks<V> values = new Chunks<>();
+
+        private E err;
+
+        private void add(Result<? extends V, ? extends E> result) {
+            if (err != null) {
+                return;
+            }
+            switch (result) {
+                case Ok<? extends V, ? extends E>(var value) -> values.add(value);
+                case Err<? extends V, ? extends E>(var thrown) -> err = thrown;
+            }
+        }
+
+        private ResultList<V, E> combine(ResultList<V, E> right) {
+            if (err != null) {
+                return this;
+            }
+            if (right.err != null) {
+                return right;
+            }
+            values.append(right.values);
+            return this;
+        }
+
+        private Result<List<V>, E> toResult() {
+            return err != null ? new Err<>(err) : Ok.of(values.toList());
+        }
+    }
+
+    private static final class Partitioned<V, E extends Throwable> {
+
+        private final Chunks<V> oks = new Chunks<>();
+
+        private final Chunks<E> errs = new Chunks<>();
+
+        private void add(Result<? extends V, ? extends E> result) {
+            switch (result) {
+                case Ok<? extends V, ? extends E>(var value) -> oks.add(value);
+                case Err<? extends V, ? extends E>(var thrown) -> errs.add(thrown);
+            }
+        }
+
+        private Partitioned<V, E> combine(Partitioned<V, E> right) {
+            oks.append(right.oks);
+            errs.append(right.errs);
+            return this;
+        }
+
+        private Partition<V, E> toPartition() {
+            return new Partition<>(oks.toList(), errs.toList());
+        }
+    }
+}
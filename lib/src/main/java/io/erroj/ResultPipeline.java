@@ -0,0 +1,136 @@
+package io.erroj;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+/**
+ * Reusable chain of map, andThen and flatMap stages, built once and applied
+ * to many inputs.
+ *
+ * The stages are fused into a single method handle, run under a single
+ * exception handler, and only the final Ok or Err is allocated. An Err
+ * returned by a flatMap stage isn't thrown, the stages after it pass it
+ * over. It returns the same Result as the equivalent chain of calls on
+ * {@link Result}, except that an exception thrown by a map stage is caught as
+ * well, since every failure goes through the same handler.
+ *
+ * <pre>{@code
+ * static final ResultPipeline<String, User> FIND_USER = ResultPipeline.<String>start()
+ *         .map(String::trim)
+ *         .andThen(UUID::fromString)
+ *         .flatMap(id -> users.find(id));
+ *
+ * FIND_USER.apply(request.param("id")) // Result<User, VariableThrowable>
+ * }</pre>
+ *
+ * Build pipelines once, in static final fields: fusing the stages is far
+ * costlier than applying them.
+ */
+public final class ResultPipeline<I, O> {
+
+    private static final MethodType STAGE_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandle MAP;
+    private static final MethodHandle AND_THEN;
+    private static final MethodHandle AND_THEN_CONSUMER;
+    private static final MethodHandle FLAT_MAP;
+    private static final MethodHandle IS_SKIPPED;
+
+    static {
+        var lookup = MethodHandles.lookup();
+        try {
+            MAP = lookup.findVirtual(Function.class, "apply", STAGE_TYPE);
+            AND_THEN = lookup.findVirtual(CheckedFunction.class, "apply", STAGE_TYPE);
+            AND_THEN_CONSUMER = lookup.findStatic(ResultPipeline.class, "accept",
+                    STAGE_TYPE.insertParameterTypes(0, CheckedConsumer.class));
+            FLAT_MAP = lookup.findStatic(ResultPipeline.class, "unwrap",
+                    STAGE_TYPE.insertParameterTypes(0, ResultMapper.class));
+            IS_SKIPPED = lookup.findStatic(ResultPipeline.class, "isSkipped",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // an Err returned by a flatMap stage, passed over by the later stages
+    // rather than thrown, since the handle isn't a constant the JIT could
+    // inline, and a throw through it is a costly unwind
+    private record Skipped(Err<?, ?> err) {
+    }
+
+    // the fused stages, of type (Object)Object
+    private final MethodHandle handle;
+
+    private ResultPipeline(MethodHandle handle) {
+        this.handle = handle;
+    }
+
+    public static <I> ResultPipeline<I, I> start() {
+        return new ResultPipeline<>(MethodHandles.identity(Object.class));
+    }
+
+    public <T> ResultPipeline<I, T> map(Function<? super O, ? extends T> mapper) {
+        return then(MAP, mapper);
+    }
+
+    public <T> ResultPipeline<I, T> andThen(CheckedFunction<? super O, ? extends T> mapper) {
+        return then(AND_THEN, mapper);
+    }
+
+    public ResultPipeline<I, O> andThen(CheckedConsumer<? super O> consumer) {
+        return then(AND_THEN_CONSUMER, consumer);
+    }
+
+    public <T, E extends Throwable> ResultPipeline<I, T> flatMap(ResultMapper<? super O, T, E> mapper) {
+        return then(FLAT_MAP, mapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Result<O, VariableThrowable> apply(I input) {
+        Object output;
+        try {
+            output = (Object) handle.invokeExact((Object) input);
+        } catch (Throwable t) {
+            return new Err<>(VariableThrowable.wrap(t));
+        }
+        if (output instanceof Skipped(var err)) {
+            return err.itselfCastedToVariableThrowable();
+        }
+        // safe, since every stage was typed when added
+        return Ok.of((O) output);
+    }
+
+    /**
+     * Runs the pipeline on the value of an Ok, an Err is returned as is.
+     */
+    public Result<O, VariableThrowable> applyTo(Result<? extends I, ?> result) {
+        return switch (result) {
+            case Ok<? extends I, ?> ok -> apply(ok.value());
+            case Err<? extends I, ?> err -> err.itselfCastedToVariableThrowable();
+        };
+    }
+
+    private <T> ResultPipeline<I, T> then(MethodHandle stage, Object function) {
+        var guarded = MethodHandles.guardWithTest(IS_SKIPPED, MethodHandles.identity(Object.class),
+                stage.bindTo(function));
+        return new ResultPipeline<>(MethodHandles.filterReturnValue(handle, guarded));
+    }
+
+    private static Object accept(CheckedConsumer<Object> consumer, Object value) throws Exception {
+        consumer.accept(value);
+        return value;
+    }
+
+    private static Object unwrap(ResultMapper<Object, ?, ?> mapper, Object value) {
+        return switch (mapper.apply(value)) {
+            case Ok<?, ?> ok -> ok.value();
+            case Err<?, ?> err -> new Skipped(err);
+        };
+    }
+
+    private static boolean isSkipped(Object value) {
+        return value instanceof Skipped;
+    }
+}
@@ -0,0 +1,557 @@
+package io.erroj;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flow processor mapping every item with a CheckedFunction, and publishing
+ * the outcome of each one as a Result, in the order of the items.
+ *
+ * <pre>{@code
+ * var parse = ResultProcessor.parallel((String line) -> Order.parse(line), 8);
+ * lines.subscribe(parse);
+ * var split = parse.split();
+ * split.values().subscribe(orders);
+ * split.errors().subscribe(rejects);
+ * }</pre>
+ *
+ * It only requests items from upstream once it has a subscriber, by batches
+ * of the largest of {@link Flow#defaultBufferSize()} and parallelism,
+ * requesting the next three quarters of a batch once they were taken, so it
+ * never holds more than a batch of items, whatever the demand downstream.
+ * Results are only published as requested.
+ *
+ * It accepts a single subscriber, directly or through {@link #split()}, a
+ * second one gets an IllegalStateException. A subscriber throwing from onNext
+ * is sent that exception through onError, and upstream is cancelled.
+ */
+public final class ResultProcessor<T, R> implements Flow.Processor<T, Result<R, VariableThrowable>> {
+
+    /**
+     * Publishers of the values of the Oks and of the throwables of the Errs of
+     * a single ResultProcessor, in the order of the items.
+     */
+    public record Split<R>(Flow.Publisher<R> values, Flow.Publisher<VariableThrowable> errors) {
+    }
+
+    private final CheckedFunction<? super T, ? extends R> mapper;
+
+    private final int parallelism;
+
+    private final int batchSize;
+
+    private final int replenish;
+
+    private volatile Flow.Subscription upstream;
+
+    private volatile Flow.Subscriber<? super Result<R, VariableThrowable>> downstream;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private final ConcurrentLinkedQueue<T> inputs = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private volatile boolean done;
+
+    private volatile Throwable error;
+
+    private volatile Throwable invalidRequest;
+
+    private volatile boolean cancelled;
+
+    // serializes drain, only the thread which moved it from 0 runs the loop
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // only touched by the thread draining
+
+    private final ArrayDeque<Mapping> pending = new ArrayDeque<>();
+
+    private boolean started;
+
+    private int taken;
+
+    private long emitted;
+
+    private ResultProcessor(CheckedFunction<? super T, ? extends R> mapper, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, got " + parallelism);
+        }
+        this.mapper = mapper;
+        this.parallelism = parallelism;
+        this.batchSize = Math.max(Flow.defaultBufferSize(), parallelism);
+        this.replenish = batchSize - batchSize / 4;
+    }
+
+    /**
+     * Processor mapping one item at a time, on the thread delivering items
+     * or demand.
+     */
+    public static <T, R> ResultProcessor<T, R> of(CheckedFunction<? super T, ? extends R> mapper) {
+        return new ResultProcessor<>(mapper, 1);
+    }
+
+    /**
+     * Processor mapping up to parallelism items at once, each on its own
+     * virtual thread. Results are still published in the order of the items.
+     */
+    public static <T, R> ResultProcessor<T, R> parallel(CheckedFunction<? super T, ? extends R> mapper,
+            int parallelism) {
+        return new ResultProcessor<>(mapper, parallelism);
+    }
+
+    /**
+     * Subscribes to this processor, and sends the values of the Oks and the
+     * throwables of the Errs to two publishers, each accepting a single
+     * subscriber.
+     *
+     * Nothing is requested until both have one. Then the slowest of the two
+     * sets the pace: at most a batch of Results waits for its subscriber's
+     * demand, after which no more are requested. Cancelling one keeps the
+     * other going, its Results being dropped, cancelling both cancels this
+     * processor. Oks holding null are dropped, since a Flow can't publish
+     * null.
+     */
+    public Split<R> split() {
+        var splitter = new Splitter();
+        subscribe(splitter);
+        return new Split<>(splitter.values, splitter.errors);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Result<R, VariableThrowable>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            rejectSubscriber(subscriber, "ResultProcessor");
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    invalidRequest = new IllegalArgumentException("Expected a positive request, got " + n);
+                } else {
+                    addDemand(requested, n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                var subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                drain();
+            }
+        });
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            // a processor only has one upstream
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(T item) {
+        inputs.offer(Objects.requireNonNull(item));
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable);
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private static void rejectSubscriber(Flow.Subscriber<?> subscriber, String publisher) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException(publisher + " only accepts a single subscriber"));
+    }
+
+    private static void addDemand(AtomicLong requested, long n) {
+        // capped to Long.MAX_VALUE, which means unbounded
+        requested.getAndAccumulate(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+    }
+
+    private Result<R, VariableThrowable> map(T item) {
+        try {
+            return Ok.of(mapper.apply(item));
+        } catch (Throwable t) {
+            return new Err<>(VariableThrowable.wrap(t));
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        while (true) {
+            if (cancelled) {
+                inputs.clear();
+                for (var mapping : pending) {
+                    mapping.stop();
+                }
+                pending.clear();
+                // terminal, wip is never released so drain never runs again
+                return;
+            }
+
+            var subscriber = downstream;
+            var subscription = upstream;
+            if (subscriber != null && subscription != null) {
+                if (invalidRequest != null) {
+                    cancelled = true;
+                    subscription.cancel();
+                    subscriber.onError(invalidRequest);
+                    continue;
+                }
+
+                if (!started) {
+                    started = true;
+                    subscription.request(batchSize);
+                }
+
+                startMappings(subscription);
+
+                long demand = requested.get();
+                while (emitted != demand && !pending.isEmpty() && pending.peek().result != null && !cancelled) {
+                    var result = pending.poll().result;
+                    emitted++;
+                    try {
+                        subscriber.onNext(result);
+                    } catch (Throwable t) {
+                        // breaks the Flow rules, but must not leave wip held
+                        cancelled = true;
+                        subscription.cancel();
+                        subscriber.onError(t);
+                        break;
+                    }
+                    // frees a slot for the next item
+                    startMappings(subscription);
+                }
+                if (cancelled) {
+                    continue;
+                }
+
+                if (done && inputs.isEmpty() && pending.isEmpty()) {
+                    cancelled = true;
+                    var failure = error;
+                    if (failure != null) {
+                        subscriber.onError(failure);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                    continue;
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void startMappings(Flow.Subscription subscription) {
+        while (pending.size() < parallelism) {
+            var item = inputs.poll();
+            if (item == null) {
+                return;
+            }
+
+            var mapping = new Mapping(item);
+            pending.add(mapping);
+            if (parallelism == 1) {
+                mapping.result = map(item);
+            } else {
+                mapping.thread = Thread.ofVirtual().start(mapping);
+            }
+
+            if (++taken == replenish) {
+                taken = 0;
+                subscription.request(replenish);
+            }
+        }
+    }
+
+    /**
+     * An item being mapped, on its own virtual thread when parallel.
+     */
+    private final class Mapping implements Runnable {
+
+        private final T item;
+
+        private volatile Result<R, VariableThrowable> result;
+
+        // only touched by the thread draining
+        private Thread thread;
+
+        private Mapping(T item) {
+            this.item = item;
+        }
+
+        @Override
+        public void run() {
+            result = map(item);
+            drain();
+        }
+
+        private void stop() {
+            if (thread != null && result == null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Subscriber of the processor, sending the Results to the two publishers
+     * of a {@link Split}.
+     */
+    private final class Splitter implements Flow.Subscriber<Result<R, VariableThrowable>> {
+
+        private final Side<R> values = new Side<>("ResultProcessor.Split.values");
+
+        private final Side<VariableThrowable> errors = new Side<>("ResultProcessor.Split.errors");
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile boolean done;
+
+        private volatile Throwable error;
+
+        // Oks holding null, dropped by onNext
+        private final AtomicInteger droppedNulls = new AtomicInteger();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // only touched by the thread draining
+
+        // Results requested, and Results emitted or dropped, the difference
+        // being the ones asked for or waiting for a side's demand
+        private long asked;
+
+        private long consumed;
+
+        private boolean upstreamCancelled;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            drain();
+        }
+
+        @Override
+        public void onNext(Result<R, VariableThrowable> result) {
+            switch (result) {
+                case Ok<R, VariableThrowable>(var value) when value == null -> droppedNulls.incrementAndGet();
+                case Ok<R, VariableThrowable>(var value) -> values.queue.offer(value);
+                case Err<R, VariableThrowable>(var thrown) -> errors.queue.offer(thrown);
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            while (true) {
+                var subscription = this.subscription;
+                // an error, like a second subscriber, may come without items
+                if (subscription != null && (values.ready() && errors.ready() || done)) {
+                    consumed += droppedNulls.getAndSet(0) + values.emit() + errors.emit();
+
+                    if (values.cancelled && errors.cancelled) {
+                        if (!upstreamCancelled) {
+                            upstreamCancelled = true;
+                            subscription.cancel();
+                        }
+                    } else if (!done) {
+                        long waiting = asked - consumed;
+                        if (waiting <= batchSize / 2) {
+                            asked += batchSize - waiting;
+                            subscription.request(batchSize - waiting);
+                        }
+                    } else {
+                        values.terminate(error);
+                        errors.terminate(error);
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * One of the two publishers, and the subscription of its subscriber.
+         */
+        private final class Side<V> implements Flow.Publisher<V>, Flow.Subscription {
+
+            private final String name;
+
+            private final ConcurrentLinkedQueue<V> queue = new ConcurrentLinkedQueue<>();
+
+            private final AtomicBoolean subscribed = new AtomicBoolean();
+
+            private final AtomicLong requested = new AtomicLong();
+
+            private volatile Flow.Subscriber<? super V> subscriber;
+
+            private volatile Throwable invalidRequest;
+
+            private volatile boolean cancelled;
+
+            // only touched by the thread draining
+
+            private long emitted;
+
+            private boolean terminated;
+
+            private Side(String name) {
+                this.name = name;
+            }
+
+            @Override
+            public void subscribe(Flow.Subscriber<? super V> subscriber) {
+                Objects.requireNonNull(subscriber);
+                if (!subscribed.compareAndSet(false, true)) {
+                    rejectSubscriber(subscriber, name);
+                    return;
+                }
+                subscriber.onSubscribe(this);
+                this.subscriber = subscriber;
+                drain();
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    invalidRequest = new IllegalArgumentException("Expected a positive request, got " + n);
+                } else {
+                    addDemand(requested, n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+
+            private boolean ready() {
+                return subscriber != null;
+            }
+
+            /**
+             * Emits what the demand allows, or drops everything once
+             * cancelled.
+             *
+             * @return the number of Results emitted or dropped
+             */
+            private int emit() {
+                var subscriber = this.subscriber;
+                if (subscriber == null || terminated) {
+                    return 0;
+                }
+                if (invalidRequest != null && !cancelled) {
+                    cancelled = true;
+                    subscriber.onError(invalidRequest);
+                }
+
+                int count = 0;
+                long demand = requested.get();
+                while (!cancelled && emitted != demand) {
+                    var item = queue.poll();
+                    if (item == null) {
+                        return count;
+                    }
+                    emitted++;
+                    count++;
+                    try {
+                        subscriber.onNext(item);
+                    } catch (Throwable t) {
+                        // breaks the Flow rules, only this side stops
+                        cancelled = true;
+                        subscriber.onError(t);
+                    }
+                }
+                if (cancelled) {
+                    while (queue.poll() != null) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+
+            private void terminate(Throwable error) {
+                var subscriber = this.subscriber;
+                if (subscriber == null || terminated || !cancelled && !queue.isEmpty()) {
+                    return;
+                }
+                terminated = true;
+                if (cancelled) {
+                    return;
+                }
+                if (error != null) {
+                    subscriber.onError(error);
+                } else {
+                    subscriber.onComplete();
+                }
+            }
+        }
+    }
+}
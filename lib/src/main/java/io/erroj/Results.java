@@ -0,0 +1,342 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Operations over several Results at once.
+ */
+public final class Results {
+
+    private Results() {
+    }
+
+    private record Completion<V>(int index, Result<V, VariableThrowable> result) {
+    }
+
+    private static final class UpToFirstErr<R extends Result<?, ?>> implements Spliterator<R> {
+
+        private final Spliterator<R> source;
+
+        // shared by every split
+        private final AtomicBoolean reachedErr;
+
+        private UpToFirstErr(Spliterator<R> source, AtomicBoolean reachedErr) {
+            this.source = source;
+            this.reachedErr = reachedErr;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (reachedErr.get()) {
+                return false;
+            }
+            return source.tryAdvance(result -> {
+                if (result.isErr()) {
+                    reachedErr.set(true);
+                }
+                action.accept(result);
+            });
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            var prefix = source.trySplit();
+            return prefix == null ? null : new UpToFirstErr<>(prefix, reachedErr);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // the number of elements isn't known anymore
+            return source.characteristics() & ~(SIZED | SUBSIZED);
+        }
+    }
+
+    /**
+     * Runs every supplier on its own virtual thread, and collects their values
+     * in the order of the suppliers.
+     *
+     * On the first Err, the other suppliers are interrupted and that Err is
+     * returned right away, without waiting for them to stop. If the calling
+     * thread is interrupted while waiting, the suppliers are interrupted too,
+     * the interrupt flag is set back and an Err holding the
+     * InterruptedException is returned.
+     */
+    @SafeVarargs
+    public static <V> Result<List<V>, VariableThrowable> all(CheckedSupplier<? extends V>... suppliers) {
+        return all(Arrays.asList(suppliers));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> Result<List<V>, VariableThrowable> all(List<? extends CheckedSupplier<? extends V>> suppliers) {
+        var completions = new LinkedBlockingQueue<Completion<V>>();
+        var threads = startAll(suppliers, completions);
+        var values = new Object[suppliers.size()];
+
+        try {
+            for (int i = 0; i < suppliers.size(); i++) {
+                var completion = completions.take();
+                if (completion.result() instanceof Err<V, VariableThrowable> err) {
+                    return err.itselfCastedToVariableThrowable();
+                }
+                values[completion.index()] = completion.result().okOrThrow();
+            }
+            // safe, since every value was returned by a supplier of V
+            return Ok.of(Collections.unmodifiableList(Arrays.asList((V[]) values)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Err<>(VariableThrowable.wrap(e));
+        } finally {
+            interruptAll(threads);
+        }
+    }
+
+    /**
+     * Runs every supplier on its own virtual thread, and returns the first Ok.
+     *
+     * The other suppliers are then interrupted, without waiting for them to
+     * stop. When every supplier fails, the Err holds an
+     * {@link AllFailedException} carrying their failures, in the order they
+     * happened. Interrupting the calling thread behaves as in
+     * {@link #all(CheckedSupplier...)}.
+     */
+    @SafeVarargs
+    public static <V> Result<V, VariableThrowable> any(CheckedSupplier<? extends V>... suppliers) {
+        return any(Arrays.asList(suppliers));
+    }
+
+    public static <V> Result<V, VariableThrowable> any(List<? extends CheckedSupplier<? extends V>> suppliers) {
+        var completions = new LinkedBlockingQueue<Completion<V>>();
+        var threads = startAll(suppliers, completions);
+        var failures = new ArrayList<Throwable>();
+
+        try {
+            for (int i = 0; i < suppliers.size(); i++) {
+                var completion = completions.take();
+                if (completion.result().isOk()) {
+                    return completion.result();
+                }
+                failures.add(completion.result().errOrThrow().getWrapped());
+            }
+            return new Err<>(new VariableThrowable(
+                    new AllFailedException("All of the " + suppliers.size() + " suppliers failed", failures)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Err<>(VariableThrowable.wrap(e));
+        } finally {
+            interruptAll(threads);
+        }
+    }
+
+    /**
+     * Calls the supplier on a virtual thread, and starts another attempt on a
+     * new virtual thread each time the previous one hasn't completed within
+     * the delay, or as soon as every running attempt failed, up to
+     * maxAttempts in total.
+     *
+     * The first Ok is returned and the other attempts are interrupted,
+     * without waiting for them to stop. When every attempt fails, the Err
+     * holds an {@link AllFailedException} carrying their failures.
+     * Interrupting the calling thread behaves as in
+     * {@link #all(CheckedSupplier...)}.
+     */
+    public static <V> Hedged<V> hedge(CheckedSupplier<? extends V> call, Duration delay, int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, got " + maxAttempts);
+        }
+
+        var completions = new LinkedBlockingQueue<Completion<V>>();
+        var threads = new ArrayList<Thread>();
+        var failures = new ArrayList<Throwable>();
+        long delayNanos = delay.toNanos();
+        int hedges = 0;
+
+        threads.add(start(threads.size(), call, completions));
+
+        try {
+            while (failures.size() < threads.size()) {
+                var completion = threads.size() < maxAttempts
+                        ? completions.poll(delayNanos, TimeUnit.NANOSECONDS)
+                        : completions.take();
+
+                if (completion == null) {
+                    // the running attempts are too slow, hedge
+                    threads.add(start(threads.size(), call, completions));
+                    hedges++;
+                    continue;
+                }
+
+                if (completion.result().isOk()) {
+                    return new Hedged<>(completion.result(), hedges, threads.size() - 1 - hedges);
+                }
+
+                failures.add(completion.result().errOrThrow().getWrapped());
+                if (failures.size() == threads.size() && threads.size() < maxAttempts) {
+                    threads.add(start(threads.size(), call, completions));
+                }
+            }
+            return new Hedged<>(new Err<>(new VariableThrowable(
+                    new AllFailedException("All of the " + threads.size() + " attempts failed", failures))),
+                    hedges, threads.size() - 1 - hedges);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Hedged<>(new Err<>(VariableThrowable.wrap(e)), hedges, threads.size() - 1 - hedges);
+        } finally {
+            interruptAll(threads);
+        }
+    }
+
+    /**
+     * Applies mapper to every input, in order, on the calling thread, and
+     * keeps the outcomes in a {@link ResultBatch}, without creating a Result
+     * per input.
+     */
+    public static <T, R> ResultBatch<R> mapAll(List<? extends T> inputs, CheckedFunction<? super T, ? extends R> mapper) {
+        int size = inputs.size();
+        var values = new Object[size];
+        var failed = new long[(size + 63) >>> 6];
+        var errIndexes = new int[0];
+        var errors = new Throwable[0];
+        int errCount = 0;
+
+        int i = 0;
+        for (T input : inputs) {
+            try {
+                values[i] = mapper.apply(input);
+            } catch (Throwable t) {
+                if (errCount == errors.length) {
+                    int grown = Math.max(8, errCount * 2);
+                    errIndexes = Arrays.copyOf(errIndexes, grown);
+                    errors = Arrays.copyOf(errors, grown);
+                }
+                failed[i >>> 6] |= 1L << i;
+                errIndexes[errCount] = i;
+                errors[errCount++] = t;
+            }
+            i++;
+        }
+
+        return new ResultBatch<>(values, failed, errIndexes, errors, errCount);
+    }
+
+    /**
+     * Applies mapper to every input on the common ForkJoinPool, and collects
+     * the values in the order of the inputs.
+     *
+     * @see #traverseParallel(List, CheckedFunction, ForkJoinPool)
+     */
+    public static <T, R> Result<List<R>, VariableThrowable> traverseParallel(List<? extends T> inputs,
+            CheckedFunction<? super T, ? extends R> mapper) {
+        return traverseParallel(inputs, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies mapper to every input on the pool, and collects the values in
+     * the order of the inputs.
+     *
+     * Once an element fails, the subtasks still to run are skipped, the ones
+     * running stop after their current element, and an Err holding that
+     * failure is returned. When several fail at once, the first one caught
+     * wins, whatever its index. Use {@link #mapAllParallel} to keep every
+     * failure.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Result<List<R>, VariableThrowable> traverseParallel(List<? extends T> inputs,
+            CheckedFunction<? super T, ? extends R> mapper, ForkJoinPool pool) {
+        var task = TraverseTask.<T, R>failFast(inputs.toArray(), mapper, pool.getParallelism());
+        pool.invoke(task);
+
+        var failure = task.firstFailure();
+        if (failure != null) {
+            return new Err<>(VariableThrowable.wrap(failure));
+        }
+        // safe, since every value was returned by the mapper
+        return Ok.of(Collections.unmodifiableList(Arrays.asList((R[]) task.values())));
+    }
+
+    /**
+     * Same as {@link #mapAll}, with the inputs split on the common
+     * ForkJoinPool.
+     */
+    public static <T, R> ResultBatch<R> mapAllParallel(List<? extends T> inputs,
+            CheckedFunction<? super T, ? extends R> mapper) {
+        return mapAllParallel(inputs, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as {@link #mapAll}, with the inputs split on the pool: every input
+     * is mapped, whatever fails, and every failure is kept.
+     */
+    public static <T, R> ResultBatch<R> mapAllParallel(List<? extends T> inputs,
+            CheckedFunction<? super T, ? extends R> mapper, ForkJoinPool pool) {
+        var task = TraverseTask.<T, R>collectAll(inputs.toArray(), mapper, pool.getParallelism());
+        pool.invoke(task);
+        return task.toBatch();
+    }
+
+    /**
+     * The mapper as a function returning a Result, for instance to map a
+     * stream with it.
+     */
+    public static <T, R> Function<T, Result<R, VariableThrowable>> lift(
+            CheckedFunction<? super T, ? extends R> mapper) {
+        return input -> {
+            try {
+                return Ok.of(mapper.apply(input));
+            } catch (Throwable t) {
+                return new Err<>(VariableThrowable.wrap(t));
+            }
+        };
+    }
+
+    /**
+     * The stream up to its first Err included, after which no element is
+     * pulled from it anymore.
+     *
+     * In a parallel stream, once any part reached an Err the other parts stop
+     * too, so the stream still ends with an Err, but not necessarily the
+     * first one in encounter order.
+     */
+    public static <R extends Result<?, ?>> Stream<R> upToFirstErr(Stream<R> results) {
+        var spliterator = new UpToFirstErr<>(results.spliterator(), new AtomicBoolean());
+        return StreamSupport.stream(spliterator, results.isParallel()).onClose(results::close);
+    }
+
+    private static <V> List<Thread> startAll(List<? extends CheckedSupplier<? extends V>> suppliers,
+            LinkedBlockingQueue<Completion<V>> completions) {
+        var threads = new ArrayList<Thread>(suppliers.size());
+        for (var supplier : suppliers) {
+            threads.add(start(threads.size(), supplier, completions));
+        }
+        return threads;
+    }
+
+    private static <V> Thread start(int index, CheckedSupplier<? extends V> supplier,
+            LinkedBlockingQueue<Completion<V>> completions) {
+        return Thread.ofVirtual().start(() -> completions.add(new Completion<>(index, Result.<V>of(supplier))));
+    }
+
+    private static void interruptAll(List<Thread> threads) {
+        for (var thread : threads) {
+            // no-op for the ones already done
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How {@link Result#retry} and {@link AsyncResult#retry} retry a failing
+ * call: at most maxAttempts attempts, waiting an exponential backoff between
+ * them, and giving up once the next attempt would start after the deadline.
+ *
+ * Only failures matching one of retryOn are retried, with the same rules as
+ * {@link Rescue#matchedExceptionClass()}: the wrapped exception has to be an
+ * instance of the class.
+ *
+ * <pre>{@code
+ * static final RetryPolicy POLICY = RetryPolicy.of(5)
+ *         .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *         .withDeadline(Duration.ofSeconds(5))
+ *         .retryOn(IOException.class);
+ * }</pre>
+ */
+public record RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Jitter jitter,
+        Duration deadline, List<Class<? extends Exception>> retryOn) {
+
+    public enum Jitter {
+        /**
+         * Waits exactly baseDelay * 2^(retry - 1), capped to maxDelay, so
+         * baseDelay before the first retry.
+         */
+        NONE,
+        /** Waits a random delay between 0 and the one of NONE. */
+        FULL,
+        /**
+         * Waits a random delay between baseDelay and three times the previous
+         * one, capped to maxDelay, which spreads the retries of many callers
+         * better than FULL. It needs a baseDelay above zero, since every
+         * delay would be zero otherwise.
+         */
+        DECORRELATED
+    }
+
+    private static final Duration NO_DEADLINE = Duration.ofNanos(Long.MAX_VALUE);
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, got " + maxAttempts);
+        }
+        if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException(
+                    "Expected 0 <= baseDelay <= maxDelay, got " + baseDelay + " and " + maxDelay);
+        }
+        if (jitter == Jitter.DECORRELATED && baseDelay.isZero()) {
+            throw new IllegalArgumentException("DECORRELATED jitter needs a baseDelay above 0");
+        }
+        retryOn = List.copyOf(retryOn);
+    }
+
+    /**
+     * Retries any Exception, up to maxAttempts attempts in total, with a full
+     * jitter backoff from 100ms to 10s, and no deadline.
+     */
+    public static RetryPolicy of(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(100), Duration.ofSeconds(10), Jitter.FULL,
+                NO_DEADLINE, List.of(Exception.class));
+    }
+
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, jitter, deadline, retryOn);
+    }
+
+    public RetryPolicy withBackoff(Duration baseDelay, Duration maxDelay) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, jitter, deadline, retryOn);
+    }
+
+    public RetryPolicy withJitter(Jitter jitter) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, jitter, deadline, retryOn);
+    }
+
+    /**
+     * Time budget for all the attempts, counted from the start of the first.
+     */
+    public RetryPolicy withDeadline(Duration deadline) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, jitter, deadline, retryOn);
+    }
+
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Exception>... retryOn) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, jitter, deadline, List.of(retryOn));
+    }
+
+    boolean isRetryable(VariableThrowable failure) {
+        // an interrupted caller wants to stop, not to wait again
+        if (InterruptedException.class.isAssignableFrom(failure.getWrappedClass())) {
+            return false;
+        }
+        for (var clazz : retryOn) {
+            if (clazz.isAssignableFrom(failure.getWrappedClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delay before the given retry, the first retry being 1, or -1 when it
+     * shouldn't happen.
+     */
+    long delayNanos(int retry, long previousDelayNanos, long elapsedNanos) {
+        if (retry >= maxAttempts) {
+            return -1;
+        }
+
+        long base = baseDelay.toNanos();
+        long max = maxDelay.toNanos();
+        var random = ThreadLocalRandom.current();
+
+        long delay = switch (jitter) {
+            case NONE -> exponential(base, max, retry);
+            case FULL -> random.nextLong(saturatedPlusOne(exponential(base, max, retry)));
+            case DECORRELATED -> Math.min(max, between(random, base, saturatedTimesThree(previousDelayNanos)));
+        };
+
+        if (deadline.toNanos() - elapsedNanos < delay) {
+            return -1;
+        }
+        return delay;
+    }
+
+    private static long exponential(long base, long max, int retry) {
+        // 2^62 is already more than any sensible delay in nanoseconds
+        int shift = Math.min(retry - 1, 62);
+        if (base > (max >> shift)) {
+            return max;
+        }
+        return Math.min(max, base << shift);
+    }
+
+    private static long saturatedTimesThree(long value) {
+        return value > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : value * 3;
+    }
+
+    private static long between(ThreadLocalRandom random, long low, long high) {
+        return high <= low ? low : random.nextLong(low, saturatedPlusOne(high));
+    }
+
+    // exclusive bound of nextLong, Long.MAX_VALUE itself is then never drawn
+    private static long saturatedPlusOne(long value) {
+        return value == Long.MAX_VALUE ? value : value + 1;
+    }
+}
@@ -0,0 +1,76 @@
+package io.erroj;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls for the same key: while a call for a key runs,
+ * other callers for that key wait for it, and all of them get the very same
+ * Result instance, Ok or Err, instead of calling the supplier again.
+ *
+ * Nothing is cached, once a call completes the next caller for its key runs
+ * the supplier again.
+ *
+ * <pre>{@code
+ * static final SingleFlight<UserId, User> LOADS = new SingleFlight<>();
+ *
+ * LOADS.call(id, () -> loadFromDb(id)) // Result<User, VariableThrowable>
+ * }</pre>
+ *
+ * The supplier runs on the thread of the first caller. Waiting callers park on
+ * a CompletableFuture, which doesn't pin virtual threads, and the in-flight
+ * table is only updated with putIfAbsent and remove, so the supplier never
+ * runs while holding a lock of the table.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<Result<V, VariableThrowable>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the supplier, unless a call for the same key is in flight, in
+     * which case its Result is returned once done.
+     *
+     * If the thread is interrupted while waiting, the interrupt flag is set
+     * back and an Err holding the InterruptedException is returned, the call
+     * in flight isn't affected.
+     */
+    public Result<V, VariableThrowable> call(K key, CheckedSupplier<? extends V> supplier) {
+        var mine = new CompletableFuture<Result<V, VariableThrowable>>();
+        var running = inFlight.putIfAbsent(key, mine);
+
+        if (running != null) {
+            return await(running);
+        }
+
+        Result<V, VariableThrowable> result = null;
+        try {
+            result = Result.of(supplier);
+            return result;
+        } finally {
+            // removed before completing, so a caller coming after the
+            // completion never waits on an already done call
+            inFlight.remove(key, mine);
+            mine.complete(result);
+        }
+    }
+
+    /**
+     * Number of keys with a call in flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> Result<V, VariableThrowable> await(CompletableFuture<Result<V, VariableThrowable>> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Err<>(VariableThrowable.wrap(e));
+        } catch (ExecutionException e) {
+            // never happens, the future is always completed normally
+            return new Err<>(VariableThrowable.wrap(e.getCause()));
+        }
+    }
+}
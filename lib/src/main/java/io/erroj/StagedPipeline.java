@@ -0,0 +1,291 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Chain of named stages, each with its own workers, fed by a bounded queue.
+ *
+ * Unlike {@link ResultPipeline}, which runs its stages on the caller's thread,
+ * records flow from stage to stage through the queues, so stages run
+ * concurrently, and a slow stage fills its queue until the ones before it,
+ * and eventually {@link Running#submit}, block.
+ *
+ * <pre>{@code
+ * var ingestion = StagedPipeline.<String>source()
+ *         .stage("parse", 2, 1024, Order::parse)
+ *         .stage("price", 8, 256, pricing::price)
+ *         .stage("store", 4, 256, orders::save)
+ *         .start(saved -> metrics.increment("orders.saved"),
+ *                 dead -> log.warn("{} failed at {}", dead.input(), dead.stage(), dead.error()));
+ *
+ * ingestion.submit(line);
+ * }</pre>
+ *
+ * The values returned by the last stage go to the output sink. A record
+ * failing at any stage, by throwing, is given to the dead letter sink instead,
+ * with the name of the stage and the original input, and doesn't go further.
+ *
+ * A StagedPipeline is only a description, immutable and reusable, each call
+ * to {@link #start} runs a new set of workers.
+ */
+public final class StagedPipeline<I, O> {
+
+    /**
+     * A record which failed at the named stage.
+     */
+    public record DeadLetter<I>(String stage, I input, VariableThrowable error) {
+    }
+
+    /**
+     * Counters of a stage since the pipeline started: records processed, Ok
+     * or Err, how many failed, how many of those the dead letter sink failed
+     * on in turn, and how many wait in its queue right now.
+     */
+    public record StageStats(String name, int workers, long processed, long errors, long deadLetterFailures,
+            int queueDepth, int queueCapacity, Duration elapsed) {
+
+        /**
+         * Records processed per second, on average since the start.
+         */
+        public double throughput() {
+            long nanos = elapsed.toNanos();
+            return nanos == 0 ? 0 : processed * 1e9 / nanos;
+        }
+    }
+
+    private record Stage(String name, int workers, int queueCapacity, CheckedFunction<Object, Object> mapper) {
+    }
+
+    private final List<Stage> stages;
+
+    private StagedPipeline(List<Stage> stages) {
+        this.stages = stages;
+    }
+
+    public static <I> StagedPipeline<I, I> source() {
+        return new StagedPipeline<>(List.of());
+    }
+
+    /**
+     * Adds a stage running mapper on workers virtual threads, taking its
+     * records from a queue of queueCapacity.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> StagedPipeline<I, T> stage(String name, int workers, int queueCapacity,
+            CheckedFunction<? super O, ? extends T> mapper) {
+        if (workers < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "Expected at least 1 worker and a capacity of 1, got " + workers + " and " + queueCapacity);
+        }
+        var next = new ArrayList<>(stages);
+        // safe, every stage is given the output of the previous one
+        next.add(new Stage(name, workers, queueCapacity, (CheckedFunction<Object, Object>) mapper));
+        return new StagedPipeline<>(List.copyOf(next));
+    }
+
+    /**
+     * Starts the workers of every stage.
+     *
+     * The output sink is called on the workers of the last stage, if it throws
+     * the record goes to the dead letter sink as failing at that stage. The
+     * dead letter sink is called on the worker of the failing stage, if it
+     * throws an Exception itself the record is dropped, and counted in
+     * {@link StageStats#deadLetterFailures()}.
+     */
+    public Running<I, O> start(Consumer<? super O> output, Consumer<? super DeadLetter<I>> deadLetters) {
+        if (stages.isEmpty()) {
+            throw new IllegalStateException("A pipeline needs at least one stage");
+        }
+        return new Running<>(stages, output, deadLetters);
+    }
+
+    /**
+     * A started pipeline.
+     */
+    public static final class Running<I, O> implements AutoCloseable {
+
+        // a record and the input it comes from
+        private record Envelope(Object input, Object value) {
+        }
+
+        // tells a worker to stop, once every record before it was processed
+        private static final Envelope POISON = new Envelope(null, null);
+
+        private final class StageRun {
+
+            private final int index;
+
+            private final Stage stage;
+
+            private final BlockingQueue<Envelope> queue;
+
+            private final AtomicInteger live;
+
+            private final LongAdder processed = new LongAdder();
+
+            private final LongAdder errors = new LongAdder();
+
+            private final LongAdder deadLetterFailures = new LongAdder();
+
+            private StageRun(int index, Stage stage) {
+                this.index = index;
+                this.stage = stage;
+                this.queue = new ArrayBlockingQueue<>(stage.queueCapacity());
+                this.live = new AtomicInteger(stage.workers());
+            }
+
+            @SuppressWarnings("unchecked")
+            private void run() {
+                try {
+                    for (var envelope = queue.take(); envelope != POISON; envelope = queue.take()) {
+                        Object value;
+                        try {
+                            value = stage.mapper().apply(envelope.value());
+                            if (index + 1 == runs.size()) {
+                                // safe, the last stage returns an O
+                                output.accept((O) value);
+                            }
+                        } catch (Throwable t) {
+                            errors.increment();
+                            processed.increment();
+                            try {
+                                // safe, since every input was submitted as an I
+                                deadLetters.accept(new DeadLetter<>(stage.name(), (I) envelope.input(),
+                                        VariableThrowable.wrap(t)));
+                            } catch (Exception e) {
+                                deadLetterFailures.increment();
+                            }
+                            continue;
+                        }
+                        processed.increment();
+                        if (index + 1 < runs.size()) {
+                            runs.get(index + 1).queue.put(new Envelope(envelope.input(), value));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    // the last worker of a stage to stop stops the next stage,
+                    // even when interrupted, or close would wait for it forever
+                    if (live.decrementAndGet() == 0 && index + 1 < runs.size()) {
+                        runs.get(index + 1).poisonUninterruptibly();
+                    }
+                }
+            }
+
+            private void poison() throws InterruptedException {
+                for (int i = 0; i < stage.workers(); i++) {
+                    queue.put(POISON);
+                }
+            }
+
+            private void poisonUninterruptibly() {
+                boolean interrupted = Thread.interrupted();
+                try {
+                    for (int i = 0; i < stage.workers();) {
+                        try {
+                            queue.put(POISON);
+                            i++;
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                } finally {
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            private StageStats stats(Duration elapsed) {
+                return new StageStats(stage.name(), stage.workers(), processed.sum(), errors.sum(),
+                        deadLetterFailures.sum(), queue.size(), stage.queueCapacity(), elapsed);
+            }
+        }
+
+        private final List<StageRun> runs = new ArrayList<>();
+
+        private final List<Thread> threads = new ArrayList<>();
+
+        private final Consumer<? super O> output;
+
+        private final Consumer<? super DeadLetter<I>> deadLetters;
+
+        private final long startedAt = System.nanoTime();
+
+        // submits share it, close takes it alone, so no record is submitted
+        // after the workers were told to stop
+        private final ReentrantReadWriteLock closing = new ReentrantReadWriteLock();
+
+        private boolean closed;
+
+        private Running(List<Stage> stages, Consumer<? super O> output,
+                Consumer<? super DeadLetter<I>> deadLetters) {
+            this.output = output;
+            this.deadLetters = deadLetters;
+            for (int i = 0; i < stages.size(); i++) {
+                runs.add(new StageRun(i, stages.get(i)));
+            }
+            for (var run : runs) {
+                for (int i = 0; i < run.stage.workers(); i++) {
+                    threads.add(Thread.ofVirtual().name(run.stage.name() + "-" + i).start(run::run));
+                }
+            }
+        }
+
+        /**
+         * Queues the input for the first stage, waiting for room if its queue
+         * is full.
+         *
+         * @return false if the pipeline is closed, in which case the input is
+         *         dropped
+         */
+        public boolean submit(I input) throws InterruptedException {
+            closing.readLock().lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                runs.get(0).queue.put(new Envelope(input, input));
+                return true;
+            } finally {
+                closing.readLock().unlock();
+            }
+        }
+
+        public List<StageStats> stats() {
+            var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            return runs.stream().map(run -> run.stats(elapsed)).toList();
+        }
+
+        /**
+         * Stops accepting inputs, and waits until every submitted record went
+         * through the pipeline, to the output or to the dead letter sink.
+         */
+        @Override
+        public void close() throws InterruptedException {
+            closing.writeLock().lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            } finally {
+                closing.writeLock().unlock();
+            }
+
+            runs.get(0).poison();
+            for (var thread : threads) {
+                thread.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.erroj;
+
+/**
+ * Outcome of one step of {@link Result#loop(Object, ResultMapper)}: either
+ * continue with a new state, or stop with a value.
+ */
+public sealed interface Step<S, V> permits Step.More, Step.Done {
+
+    public record More<S, V>(S state) implements Step<S, V> {
+    }
+
+    public record Done<S, V>(V value) implements Step<S, V> {
+    }
+
+    public static <S, V> More<S, V> more(S state) {
+        return new More<>(state);
+    }
+
+    public static <S, V> Done<S, V> done(V value) {
+        return new Done<>(value);
+    }
+}
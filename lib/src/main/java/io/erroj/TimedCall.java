@@ -0,0 +1,71 @@
+package io.erroj;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A supplier run on its own virtual thread, whose result is either taken by
+ * the caller, or handed to onLate once the caller gave up on it.
+ *
+ * The caller's timed join is the only timer: it parks on the JDK's shared
+ * scheduler when the caller is a virtual thread, and in the kernel otherwise,
+ * so no timer task is created per call.
+ */
+final class TimedCall<V> implements Runnable {
+
+    // set by the caller when it stops waiting, before the worker is done
+    private static final Object ABANDONED = new Object();
+
+    private final CheckedSupplier<? extends V> supplier;
+
+    private final Consumer<? super Result<V, VariableThrowable>> onLate;
+
+    private final AtomicReference<Object> outcome = new AtomicReference<>();
+
+    TimedCall(CheckedSupplier<? extends V> supplier, Consumer<? super Result<V, VariableThrowable>> onLate) {
+        this.supplier = supplier;
+        this.onLate = onLate;
+    }
+
+    @Override
+    public void run() {
+        var result = Result.<V>of(supplier);
+        // whoever sets the outcome first owns it, so the result is either
+        // returned or handed to onLate, never both
+        if (!outcome.compareAndSet(null, result) && !stoppedByInterrupt(result)) {
+            onLate.accept(result);
+        }
+    }
+
+    // the interrupt sent on timeout did its job, nothing is late
+    private static boolean stoppedByInterrupt(Result<?, VariableThrowable> result) {
+        return result instanceof Err<?, VariableThrowable>(var thrown)
+                && thrown.getWrappedClass() == InterruptedException.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    Result<V, VariableThrowable> await(Duration timeout) {
+        var worker = Thread.ofVirtual().start(this);
+
+        Result<V, VariableThrowable> failure;
+        try {
+            if (worker.join(timeout)) {
+                // safe, only the worker sets a result
+                return (Result<V, VariableThrowable>) outcome.get();
+            }
+            failure = new Err<>(new VariableThrowable(new TimeoutException("Timed out after " + timeout)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new Err<>(VariableThrowable.wrap(e));
+        }
+
+        if (!outcome.compareAndSet(null, ABANDONED)) {
+            // finished in the meantime, so it is not late
+            return (Result<V, VariableThrowable>) outcome.get();
+        }
+        worker.interrupt();
+        return failure;
+    }
+}
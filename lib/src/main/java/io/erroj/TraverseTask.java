@@ -0,0 +1,129 @@
+package io.erroj;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies a function to a range of inputs, split in halves until small
+ * enough, for {@link Results#traverseParallel} and
+ * {@link Results#mapAllParallel}.
+ *
+ * Leaves are multiples of 64 elements, aligned on 64, so each word of the
+ * failure bitset is only written by one leaf.
+ */
+final class TraverseTask<T, R> extends RecursiveAction {
+
+    private final Object[] inputs;
+
+    private final CheckedFunction<? super T, ? extends R> mapper;
+
+    private final Object[] values;
+
+    // only when collecting every failure
+    private final long[] failed;
+
+    private final Throwable[] thrown;
+
+    // only when stopping at the first failure
+    private final AtomicReference<Throwable> firstFailure;
+
+    private final int from;
+
+    private final int to;
+
+    private final int leafSize;
+
+    private TraverseTask(Object[] inputs, CheckedFunction<? super T, ? extends R> mapper, Object[] values,
+            long[] failed, Throwable[] thrown, AtomicReference<Throwable> firstFailure, int from, int to,
+            int leafSize) {
+        this.inputs = inputs;
+        this.mapper = mapper;
+        this.values = values;
+        this.failed = failed;
+        this.thrown = thrown;
+        this.firstFailure = firstFailure;
+        this.from = from;
+        this.to = to;
+        this.leafSize = leafSize;
+    }
+
+    static <T, R> TraverseTask<T, R> failFast(Object[] inputs, CheckedFunction<? super T, ? extends R> mapper,
+            int parallelism) {
+        return new TraverseTask<>(inputs, mapper, new Object[inputs.length], null, null, new AtomicReference<>(),
+                0, inputs.length, leafSize(inputs.length, parallelism));
+    }
+
+    static <T, R> TraverseTask<T, R> collectAll(Object[] inputs, CheckedFunction<? super T, ? extends R> mapper,
+            int parallelism) {
+        return new TraverseTask<>(inputs, mapper, new Object[inputs.length], new long[(inputs.length + 63) >>> 6],
+                new Throwable[inputs.length], null, 0, inputs.length, leafSize(inputs.length, parallelism));
+    }
+
+    // about 8 leaves per worker, so that idle workers have some to steal
+    private static int leafSize(int size, int parallelism) {
+        int leaf = Math.max(64, size / (parallelism * 8));
+        return (leaf + 63) & ~63;
+    }
+
+    @Override
+    protected void compute() {
+        if (firstFailure != null && firstFailure.get() != null) {
+            return;
+        }
+        if (to - from <= leafSize) {
+            computeLeaf();
+            return;
+        }
+        int middle = from + (((to - from) / 2 + 63) & ~63);
+        invokeAll(
+                new TraverseTask<>(inputs, mapper, values, failed, thrown, firstFailure, from, middle, leafSize),
+                new TraverseTask<>(inputs, mapper, values, failed, thrown, firstFailure, middle, to, leafSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void computeLeaf() {
+        for (int i = from; i < to; i++) {
+            try {
+                // safe, since inputs come from a list of T
+                values[i] = mapper.apply((T) inputs[i]);
+            } catch (Throwable t) {
+                if (firstFailure != null) {
+                    firstFailure.compareAndSet(null, t);
+                    return;
+                }
+                failed[i >>> 6] |= 1L << i;
+                thrown[i] = t;
+            }
+            // stops the rest of the leaf as soon as another one failed
+            if (firstFailure != null && firstFailure.get() != null) {
+                return;
+            }
+        }
+    }
+
+    Throwable firstFailure() {
+        return firstFailure.get();
+    }
+
+    Object[] values() {
+        return values;
+    }
+
+    ResultBatch<R> toBatch() {
+        int errCount = 0;
+        for (long word : failed) {
+            errCount += Long.bitCount(word);
+        }
+        var errIndexes = new int[errCount];
+        var errors = new Throwable[errCount];
+        int next = 0;
+        for (int w = 0; w < failed.length; w++) {
+            for (long word = failed[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                errIndexes[next] = i;
+                errors[next++] = thrown[i];
+            }
+        }
+        return new ResultBatch<>(values, failed, errIndexes, errors, errCount);
+    }
+}
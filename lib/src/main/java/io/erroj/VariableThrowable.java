@@ -1,89 +1,227 @@
 package io.erroj;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public final class VariableThrowable extends Throwable {
 
-    private final Throwable thrown;
+    private static final VarHandle THROWN;
+
+    static {
+        try {
+            THROWN = MethodHandles.lookup().findVarHandle(VariableThrowable.class, "thrown", Throwable.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // only null until a lazy throwable is built, then never changes
+    private volatile Throwable thrown;
+
+    private final Class<? extends Throwable> thrownClass;
+
+    // cause of the wrapped throwable, read once through its synchronized
+    // getCause, then without the lock, since a cause never changes once set
+    private volatile Throwable wrappedCause;
+
+    private static final ClassValue<Boolean> INHERITS_GET_CAUSE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getCause").getDeclaringClass() == Throwable.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+        }
+    };
+
+    // dropped once the throwable is built, so that whatever it captured can be
+    // collected, never serialized, since writeObject builds the throwable first
+    private transient volatile Supplier<? extends Throwable> supplier;
 
     public VariableThrowable(Throwable throwable) {
         super(throwable);
         this.thrown = throwable;
+        this.thrownClass = throwable.getClass();
+        this.supplier = null;
     }
 
+    private VariableThrowable(Class<? extends Throwable> thrownClass, Supplier<? extends Throwable> supplier) {
+        super();
+        this.thrownClass = thrownClass;
+        this.supplier = supplier;
+    }
+
+    private VariableThrowable(Throwable throwable, boolean enableSuppression) {
+        super(null, throwable, enableSuppression, false);
+        this.thrown = throwable;
+        this.thrownClass = throwable.getClass();
+        this.supplier = null;
+    }
+
+    /**
+     * Wrapper which ignores {@link #addSuppressed(Throwable)}, so that a single
+     * instance can be preallocated and returned to every caller, without one
+     * caller's suppressed exceptions leaking to the others.
+     */
+    static VariableThrowable shared(Throwable throwable) {
+        return new VariableThrowable(throwable, false);
+    }
+
+    /**
+     * Wraps a throwable which is only built by the supplier on first access.
+     *
+     * Class based operations, like {@link #rescue(Rescue...)},
+     * {@link #doOn(Class, Runnable)} or a non matching
+     * {@link #getThrowable(Class)}, rely on thrownClass and never build it, so
+     * the supplier should return an instance of exactly that class.
+     *
+     * Concurrent first accesses may call the supplier more than once, but they
+     * all get the same instance.
+     */
+    public static <E extends Throwable> VariableThrowable lazy(Class<E> thrownClass, Supplier<? extends E> supplier) {
+        return new VariableThrowable(thrownClass, supplier);
+    }
+
+    // VariableThrowable has no state of its own to guard, every accessor
+    // delegates to the wrapped throwable, without taking a lock, but the
+    // wrapped throwable may take its own
+
     @Override
-    public synchronized Throwable fillInStackTrace() {
+    public Throwable fillInStackTrace() {
         return this;
     }
 
     @Override
-    public synchronized Throwable getCause() {
-        return this.thrown.getCause();
+    public Throwable getCause() {
+        var cause = wrappedCause;
+        if (cause != null) {
+            return cause;
+        }
+        var wrapped = getWrapped();
+        cause = wrapped.getCause();
+        // a null cause may still be initialized later, and an overriding
+        // getCause may return anything, so neither is kept
+        if (cause != null && INHERITS_GET_CAUSE.get(wrapped.getClass())) {
+            wrappedCause = cause;
+        }
+        return cause;
     }
 
     @Override
     public String getLocalizedMessage() {
-        return this.thrown.getLocalizedMessage();
+        return getWrapped().getLocalizedMessage();
     }
 
     @Override
     public String getMessage() {
-        return this.thrown.getMessage();
+        return getWrapped().getMessage();
     }
 
     @Override
     public StackTraceElement[] getStackTrace() {
-        return this.thrown.getStackTrace();
+        return getWrapped().getStackTrace();
     }
 
     @Override
-    public synchronized Throwable initCause(Throwable cause) {
-        return this.thrown.initCause(cause);
+    public Throwable initCause(Throwable cause) {
+        return getWrapped().initCause(cause);
     }
 
     @Override
     public void printStackTrace() {
-        this.thrown.printStackTrace();
+        getWrapped().printStackTrace();
     }
 
     @Override
     public void printStackTrace(PrintWriter s) {
-        this.thrown.printStackTrace(s);
+        getWrapped().printStackTrace(s);
     }
 
     @Override
     public void printStackTrace(PrintStream s) {
-        this.thrown.printStackTrace(s);
+        getWrapped().printStackTrace(s);
     }
 
     @Override
     public void setStackTrace(StackTraceElement[] stackTrace) {
-        this.thrown.setStackTrace(stackTrace);
+        getWrapped().setStackTrace(stackTrace);
     }
 
     @Override
     public String toString() {
-        return this.thrown.toString();
+        return getWrapped().toString();
+    }
+
+    /**
+     * Wraps the throwable, unless it already is a VariableThrowable, so that a
+     * failure is never wrapped more than once.
+     */
+    public static VariableThrowable wrap(Throwable throwable) {
+        if (throwable instanceof VariableThrowable vt) {
+            return vt;
+        }
+        return new VariableThrowable(throwable);
     }
 
     public Throwable getWrapped() {
-        return this.thrown;
+        var wrapped = thrown;
+        if (wrapped == null) {
+            var lazy = supplier;
+            if (lazy == null) {
+                // only dropped after the throwable is set
+                return thrown;
+            }
+            wrapped = thrownClass.cast(Objects.requireNonNull(lazy.get(), "supplier returned null"));
+            var witness = (Throwable) THROWN.compareAndExchange(this, null, wrapped);
+            if (witness != null) {
+                // another thread built it first
+                wrapped = witness;
+            }
+            supplier = null;
+        }
+        return wrapped;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getWrapped();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Class of the wrapped throwable, known without building it.
+     */
+    public Class<? extends Throwable> getWrappedClass() {
+        return thrownClass;
+    }
+
+    /**
+     * Whether the wrapped throwable is built, always true unless created with
+     * {@link #lazy(Class, Supplier)}.
+     */
+    public boolean isMaterialized() {
+        return thrown != null;
     }
 
     @SuppressWarnings("unchecked")
     public <E extends Throwable> VariableThrowable doOn(Class<E> exceptClazz, Consumer<? super E> consumer) {
-        if (exceptClazz.isInstance(thrown)) {
+        if (exceptClazz.isAssignableFrom(thrownClass)) {
             // safe, runtime check before cast
-            consumer.accept((E) this.thrown);
+            consumer.accept((E) getWrapped());
         }
         return this;
     }
 
     public <E extends Throwable> VariableThrowable doOn(Class<E> exceptClazz, Runnable runnable) {
-        if (exceptClazz.isInstance(thrown)) {
+        if (exceptClazz.isAssignableFrom(thrownClass)) {
             runnable.run();
         }
         return this;
@@ -92,9 +230,9 @@ public final class VariableThrowable extends Throwable {
     @SuppressWarnings("unchecked")
     public <E extends Throwable> Optional<E> getThrowable(Class<E> exceptClazz) {
 
-        if (exceptClazz.isInstance(thrown)) {
+        if (exceptClazz.isAssignableFrom(thrownClass)) {
             // safe, runtime check before cast
-            return Optional.of((E) this.thrown);
+            return Optional.of((E) getWrapped());
         }
         return Optional.empty();
     }
@@ -104,12 +242,22 @@ public final class VariableThrowable extends Throwable {
             Rescue<V>... rescuers) {
 
         for (var resc : rescuers) {
-            if (resc.matchedExceptionClass().isInstance(thrown)) {
-                return new Ok<>(resc.rescuedValue());
+            if (resc.matchedExceptionClass().isAssignableFrom(thrownClass)) {
+                return Ok.of(resc.rescuedValue());
             }
         }
 
         return new Err<>(this);
     }
 
+    public <V> Result<V, VariableThrowable> rescue(RescuePlan<V> plan) {
+
+        var resc = plan.find(thrownClass);
+        if (resc.isPresent()) {
+            return Ok.of(resc.get().rescuedValue());
+        }
+
+        return new Err<>(this);
+    }
+
 }
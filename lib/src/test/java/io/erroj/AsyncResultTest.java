@@ -0,0 +1,220 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncResultTest {
+
+    @Test
+    public void shouldRunOnVirtualThread() {
+        var res = AsyncResult.of(() -> Thread.currentThread().isVirtual()).await();
+
+        assertTrue(res.okOrThrow());
+    }
+
+    @Test
+    public void shouldRunOnGivenExecutor() {
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            var res = AsyncResult.of(() -> Thread.currentThread().isVirtual(), executor)
+                    .andThen((Boolean b) -> {
+                        return Thread.currentThread().isVirtual();
+                    })
+                    .await();
+
+            assertFalse(res.okOrThrow());
+        }
+    }
+
+    @Test
+    public void shouldHoldOriginalExceptionWhenFailure() {
+        var toBeThrown = new ArithmeticException();
+
+        var res = AsyncResult.of(() -> {
+            throw toBeThrown;
+        }).await();
+
+        assertTrue(res.isErr());
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldChainWithoutBlocking() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+
+        var async = AsyncResult.of(() -> {
+            latch.await();
+            return 10;
+        })
+                .map(i -> i * 2)
+                .andThen((Integer i) -> {
+                    return Integer.toString(i);
+                })
+                .flatMap(s -> Result.ok(s + "!"));
+
+        assertFalse(async.isDone());
+        latch.countDown();
+
+        assertEquals("20!", async.await().okOrThrow());
+    }
+
+    @Test
+    public void shouldRescue() {
+        var res = AsyncResult.<Integer>of(() -> {
+            throw new NoSuchElementException();
+        })
+                .rescue(Rescue.of(NoSuchElementException.class, 10))
+                .await();
+
+        assertEquals(10, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldMapErr() {
+        var res = AsyncResult.<Integer>of(() -> {
+            throw new NoSuchElementException();
+        })
+                .mapErr(VariableThrowable::getWrapped)
+                .await();
+
+        assertInstanceOf(NoSuchElementException.class, res.errOrThrow());
+    }
+
+    @Test
+    public void shouldFlatMapAsync() {
+        var res = AsyncResult.of(() -> 10)
+                .flatMapAsync(i -> AsyncResult.of(() -> i * 2))
+                .await();
+
+        assertEquals(20, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldNotFlatMapAsyncWhenErr() {
+        var toBeThrown = new ArithmeticException();
+
+        var res = AsyncResult.completed(Result.<Integer, ArithmeticException>err(toBeThrown))
+                .flatMapAsync(i -> AsyncResult.of(() -> i * 2))
+                .await();
+
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldUnwrapCompletionException() {
+        var toBeThrown = new ArithmeticException();
+
+        var res = AsyncResult.from(CompletableFuture.<Integer>supplyAsync(() -> {
+            throw toBeThrown;
+        })).await();
+
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldThrowFromAwaitWhenMapThrows() {
+        var toBeThrown = new ArithmeticException();
+
+        var async = AsyncResult.of(() -> 10).map(i -> {
+            throw toBeThrown;
+        });
+
+        assertSame(toBeThrown, assertThrows(ArithmeticException.class, async::await));
+    }
+
+    @Test
+    public void shouldNotBeAffectedByCompletingItsFuture() {
+        var latch = new CountDownLatch(1);
+        var async = AsyncResult.of(() -> {
+            latch.await();
+            return 10;
+        });
+
+        async.toCompletableFuture().complete(Result.ok(20));
+        latch.countDown();
+
+        assertEquals(10, async.await().okOrThrow());
+    }
+
+    @Test
+    public void shouldFanOutManyBlockingCalls() {
+        var start = Instant.now();
+
+        var asyncs = new ArrayList<AsyncResult<Integer, VariableThrowable>>();
+        for (int i = 0; i < 10_000; i++) {
+            int id = i;
+            asyncs.add(AsyncResult.of(() -> {
+                Thread.sleep(200);
+                return id;
+            }));
+        }
+
+        long sum = 0;
+        for (var async : asyncs) {
+            sum += async.await().okOrThrow();
+        }
+
+        assertEquals(49_995_000L, sum);
+        // sequentially, it would take more than half an hour
+        assertTrue(Duration.between(start, Instant.now()).toSeconds() < 30);
+    }
+
+    @Test
+    public void shouldRetryAsync() {
+        var attempts = new AtomicInteger();
+
+        var res = AsyncResult.retry(() -> {
+            if (attempts.incrementAndGet() < 3)
+                throw new IOException();
+            return Thread.currentThread().isVirtual();
+        }, RetryPolicy.of(5).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5))).await();
+
+        assertTrue(res.okOrThrow());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void shouldReturnLastErrWhenAsyncRetriesExhausted() {
+        var attempts = new AtomicInteger();
+
+        var res = AsyncResult.retry(() -> {
+            throw new IOException(Integer.toString(attempts.incrementAndGet()));
+        }, RetryPolicy.of(2).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5))).await();
+
+        assertEquals("2", res.errOrThrow().getMessage());
+    }
+
+    @Test
+    public void shouldLetSupplierRunWhenCancelled() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var finished = new CountDownLatch(1);
+
+        var async = AsyncResult.of(() -> {
+            release.await();
+            finished.countDown();
+            return 1;
+        }).map(i -> i + 1);
+
+        assertTrue(async.cancel());
+        assertThrows(CancellationException.class, async::await);
+
+        release.countDown();
+        finished.await();
+    }
+}
@@ -0,0 +1,175 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class BulkheadTest {
+
+    private static final Duration SLOW = Duration.ofMinutes(1);
+
+    // takes n slots of the bulkhead until the returned latch is counted down
+    private static CountDownLatch occupy(Bulkhead bulkhead, int n) throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(n);
+        for (int i = 0; i < n; i++) {
+            Thread.ofVirtual().start(() -> bulkhead.call(() -> {
+                started.countDown();
+                release.await();
+                return 10;
+            }));
+        }
+        started.await();
+        return release;
+    }
+
+    @Test
+    public void shouldRejectWhenFull() throws InterruptedException {
+        var bulkhead = Bulkhead.of(2, 10, SLOW);
+        var release = occupy(bulkhead, 2);
+
+        var res = bulkhead.call(() -> {
+            fail("This lambda should not be invoked");
+            return 10;
+        });
+
+        assertTrue(res.isErr());
+        assertInstanceOf(BulkheadFullException.class, res.errOrThrow().getWrapped());
+        assertEquals(2, bulkhead.inFlight());
+        assertEquals(1, bulkhead.rejected());
+
+        res.errOrThrow().addSuppressed(new IllegalStateException());
+        assertEquals(0, bulkhead.call(() -> 10).errOrThrow().getSuppressed().length);
+
+        release.countDown();
+    }
+
+    @Test
+    public void shouldRunWhenSlotFree() {
+        var bulkhead = Bulkhead.of(1, 10, SLOW);
+
+        assertEquals(10, bulkhead.call(() -> 10).okOrThrow());
+        assertEquals(20, bulkhead.call(() -> 20).okOrThrow());
+        assertEquals(0, bulkhead.inFlight());
+        assertEquals(0, bulkhead.rejected());
+    }
+
+    @Test
+    public void shouldWaitForSlotWhenQueueing() throws InterruptedException {
+        var bulkhead = Bulkhead.queueing(1, 1, SLOW, 1, Duration.ofMinutes(1));
+        var release = occupy(bulkhead, 1);
+
+        var waiter = Thread.ofVirtual().start(() -> assertEquals(10, bulkhead.call(() -> 10).okOrThrow()));
+        while (bulkhead.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        waiter.join();
+
+        assertEquals(0, bulkhead.rejected());
+        assertEquals(0, bulkhead.waiting());
+    }
+
+    @Test
+    public void shouldRejectWhenQueueFull() throws InterruptedException {
+        var bulkhead = Bulkhead.queueing(1, 1, SLOW, 1, Duration.ofMinutes(1));
+        var release = occupy(bulkhead, 1);
+
+        var waiter = Thread.ofVirtual().start(() -> bulkhead.call(() -> 10));
+        while (bulkhead.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertTrue(bulkhead.call(() -> 10).isErr());
+        assertEquals(1, bulkhead.rejected());
+
+        release.countDown();
+        waiter.join();
+    }
+
+    @Test
+    public void shouldRejectWhenWaitedTooLong() throws InterruptedException {
+        var bulkhead = Bulkhead.queueing(1, 1, SLOW, 1, Duration.ofMillis(5));
+        var release = occupy(bulkhead, 1);
+
+        var res = bulkhead.call(() -> 10);
+
+        assertInstanceOf(BulkheadFullException.class, res.errOrThrow().getWrapped());
+        assertEquals(0, bulkhead.waiting());
+
+        release.countDown();
+    }
+
+    @Test
+    public void shouldReturnErrWhenInterruptedWhileWaiting() throws InterruptedException {
+        var bulkhead = Bulkhead.queueing(1, 1, SLOW, 1, Duration.ofMinutes(1));
+        var release = occupy(bulkhead, 1);
+
+        Thread.currentThread().interrupt();
+        var res = bulkhead.call(() -> 10);
+
+        assertTrue(Thread.interrupted());
+        assertInstanceOf(InterruptedException.class, res.errOrThrow().getWrapped());
+        assertEquals(0, bulkhead.waiting());
+
+        release.countDown();
+    }
+
+    @Test
+    public void shouldGrowLimitWhenFastAndUsed() {
+        var bulkhead = Bulkhead.of(1, 10, SLOW);
+
+        for (int i = 0; i < 10; i++) {
+            bulkhead.call(() -> 10);
+        }
+
+        // a single caller uses at most one slot, so it stops at 2.5
+        assertEquals(2, bulkhead.limit());
+    }
+
+    @Test
+    public void shouldNotGrowPastMaxLimit() throws InterruptedException {
+        var bulkhead = Bulkhead.of(4, 4, SLOW);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            threads.add(Thread.ofVirtual().start(() -> bulkhead.call(() -> 10)));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4, bulkhead.limit());
+    }
+
+    @Test
+    public void shouldShrinkLimitWhenSlow() {
+        var bulkhead = Bulkhead.of(10, 10, Duration.ZERO);
+
+        for (int i = 0; i < 100; i++) {
+            bulkhead.call(() -> {
+                Thread.sleep(0, 1000);
+                return 10;
+            });
+        }
+
+        assertEquals(1, bulkhead.limit());
+    }
+
+    @Test
+    public void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of(0, 10, SLOW));
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of(5, 4, SLOW));
+        assertThrows(IllegalArgumentException.class,
+                () -> Bulkhead.queueing(1, 4, SLOW, -1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,159 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+    private static CircuitBreaker breaker(Duration openDuration) {
+        return CircuitBreaker.of(0.5, 4, Duration.ofMinutes(1), openDuration);
+    }
+
+    private static void failTimes(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.call(() -> {
+                throw new IOException();
+            });
+        }
+    }
+
+    @Test
+    public void shouldStayClosedWhenBelowMinimumCalls() {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        failTimes(breaker, 3);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void shouldStayClosedWhenBelowFailureRate() {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            breaker.call(() -> 10);
+        }
+        failTimes(breaker, 5);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void shouldOpenAndFailFastWhenFailureRateReached() {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        failTimes(breaker, 4);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        var res = breaker.call(() -> {
+            fail("This lambda should not be invoked");
+            return 10;
+        });
+
+        assertTrue(res.isErr());
+        assertInstanceOf(CircuitOpenException.class, res.errOrThrow().getWrapped());
+        assertEquals(0, res.errOrThrow().getStackTrace().length);
+    }
+
+    @Test
+    public void shouldNotRecordSuppressedOnRejectedErr() {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        failTimes(breaker, 4);
+        for (int i = 0; i < 3; i++) {
+            breaker.call(() -> 10).errOrThrow().addSuppressed(new IllegalStateException());
+        }
+
+        assertEquals(0, breaker.call(() -> 10).errOrThrow().getSuppressed().length);
+    }
+
+    @Test
+    public void shouldShareRejectedErr() {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        failTimes(breaker, 4);
+
+        assertSame(breaker.call(() -> 10), breaker.call(() -> "other"));
+    }
+
+    @Test
+    public void shouldCloseWhenTrialSucceeds() throws InterruptedException {
+        var breaker = breaker(Duration.ofMillis(1));
+
+        failTimes(breaker, 4);
+        Thread.sleep(5);
+
+        assertEquals(10, breaker.call(() -> 10).okOrThrow());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // the failures before opening are forgotten
+        failTimes(breaker, 3);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void shouldReopenWhenTrialFails() throws InterruptedException {
+        var breaker = breaker(Duration.ofMillis(1));
+
+        failTimes(breaker, 4);
+        Thread.sleep(5);
+
+        var res = breaker.call(() -> {
+            throw new IOException("trial");
+        });
+
+        assertEquals("trial", res.errOrThrow().getMessage());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void shouldRejectOtherCallsWhileHalfOpen() throws InterruptedException {
+        var breaker = breaker(Duration.ofMillis(1));
+
+        failTimes(breaker, 4);
+        Thread.sleep(5);
+
+        final boolean[] wasVisited = { false };
+
+        breaker.call(() -> {
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+            assertTrue(breaker.call(() -> 20).isErr());
+            wasVisited[0] = true;
+            return 10;
+        });
+
+        assertTrue(wasVisited[0]);
+    }
+
+    @Test
+    public void shouldCloseWhenReset() {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        failTimes(breaker, 4);
+        breaker.reset();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertFalse(breaker.call(() -> 10).isErr());
+    }
+
+    @Test
+    public void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreaker.of(0, 4, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreaker.of(0.5, 0, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreaker.of(0.5, 4, Duration.ZERO, Duration.ofMinutes(1)));
+    }
+}
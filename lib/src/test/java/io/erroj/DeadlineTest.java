@@ -0,0 +1,165 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class DeadlineTest {
+
+    private static final Deadline EXPIRED = Deadline.after(Duration.ofNanos(-1));
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+
+    @Test
+    public void shouldSkipAndThenWhenExpired() {
+        var res = EXPIRED.call(() -> Result.ok(10).andThen((Integer i) -> {
+            fail("This lambda should not be invoked");
+            return i * 2;
+        }));
+
+        assertTrue(res.isErr());
+        assertInstanceOf(DeadlineExceededException.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldNotRecordSuppressedOnExceededErr() {
+        var res = EXPIRED.call(() -> Result.ok(10).andThen((Integer i) -> {
+            return i * 2;
+        }));
+        res.errOrThrow().addSuppressed(new IllegalStateException());
+
+        var other = EXPIRED.call(() -> Result.ok(10).andThen((Integer i) -> {
+            return i * 2;
+        }));
+        assertEquals(0, other.errOrThrow().getSuppressed().length);
+    }
+
+    @Test
+    public void shouldSkipAndThenConsumerWhenExpired() {
+        var res = EXPIRED.call(() -> Result.ok(10).andThen((Integer i) -> {
+            fail("This lambda should not be invoked");
+        }));
+
+        assertInstanceOf(DeadlineExceededException.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldSkipFlatMapWhenExpired() {
+        var res = EXPIRED.call(() -> Result.ok(10).flatMap(i -> {
+            fail("This lambda should not be invoked");
+            return Result.ok(i * 2);
+        }));
+
+        assertInstanceOf(DeadlineExceededException.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldKeepFirstErrWhenExpired() {
+        var except = new VariableThrowable(new ArithmeticException());
+        Result<Integer, VariableThrowable> failed = new Err<>(except);
+
+        var res = EXPIRED.call(() -> failed.andThen((Integer i) -> {
+            return i * 2;
+        }));
+
+        assertSame(except, res.errOrThrow());
+    }
+
+    @Test
+    public void shouldRunStagesWhenNotExpired() {
+        var res = Deadline.after(LONG).call(() -> Result.ok(10)
+                .andThen((Integer i) -> {
+                    return i * 2;
+                })
+                .flatMap(i -> Result.ok(i + 1)));
+
+        assertEquals(21, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldExpireMidChain() {
+        var deadline = Deadline.after(Duration.ofMillis(5));
+
+        var res = deadline.call(() -> Result.ok(10)
+                .andThen((Integer i) -> {
+                    Thread.sleep(10);
+                    return i * 2;
+                })
+                .andThen((Integer i) -> {
+                    fail("This lambda should not be invoked");
+                    return i + 1;
+                }));
+
+        assertInstanceOf(DeadlineExceededException.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldKeepEarliestWhenNested() {
+        var res = EXPIRED.call(() -> Deadline.after(LONG).call(() -> Result.ok(10).andThen((Integer i) -> {
+            return i * 2;
+        })));
+
+        assertTrue(res.isErr());
+    }
+
+    @Test
+    public void shouldUnbindAfterCall() {
+        final boolean[] wasVisited = { false };
+
+        EXPIRED.run(() -> assertTrue(Deadline.current().isPresent()));
+        Result.ok(10).andThen((Integer i) -> {
+            wasVisited[0] = true;
+        });
+
+        assertFalse(Deadline.current().isPresent());
+        assertTrue(wasVisited[0]);
+    }
+
+    @Test
+    public void shouldReportRemainingTime() {
+        assertTrue(EXPIRED.isExpired());
+        assertTrue(EXPIRED.remaining().isNegative());
+        assertFalse(Deadline.after(LONG).isExpired());
+    }
+
+    @Test
+    public void shouldNotAllocateOnSuccessPathAfterDeadlineRun() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+
+        var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        int calls = 100_000;
+        var deadline = Deadline.after(LONG);
+        Supplier<Object> unit = () -> null;
+        Result<Integer, VariableThrowable> ok = Result.ok(10);
+        CheckedConsumer<Integer> check = i -> {
+        };
+
+        // warm up, so that class loading and linkage don't get counted
+        for (int i = 0; i < calls; i++) {
+            deadline.call(unit);
+            ok.andThen(check);
+        }
+
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < calls; i++) {
+            deadline.call(unit);
+            ok.andThen(check);
+        }
+        long after = bean.getCurrentThreadAllocatedBytes();
+
+        assertEquals(0, (after - before) / calls);
+    }
+}
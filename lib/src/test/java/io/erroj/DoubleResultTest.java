@@ -0,0 +1,40 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class DoubleResultTest {
+
+    @Test
+    public void shouldHandleExceptionWhenOf() {
+        var toBeThrown = new ArithmeticException();
+
+        var result = DoubleResult.of(() -> {
+            throw toBeThrown;
+        });
+
+        assertTrue(result.isErr());
+        assertEquals(toBeThrown, result.errOrThrow().getWrapped());
+        assertEquals(0.5, result.orElse(0.5));
+    }
+
+    @Test
+    public void shouldMapWhenOk() {
+        var result = DoubleResult.<Exception>ok(2.5).map(d -> d * 2).mapToInt(d -> (int) d);
+
+        assertEquals(5, result.okOrThrow());
+    }
+
+    @Test
+    public void shouldRoundTripThroughResult() {
+        assertEquals(DoubleResult.ok(2.5), DoubleResult.from(DoubleResult.ok(2.5).toResult()));
+
+        var exception = new NoSuchElementException();
+        assertEquals(DoubleResult.err(exception),
+                DoubleResult.from(DoubleResult.<NoSuchElementException>err(exception).toResult()));
+    }
+}
@@ -361,4 +361,10 @@ public class ErrTest {
         assertTrue(res.isErr());
     }
 
+    @Test
+    public void shouldStreamNothing() {
+        Result<Integer, Exception> result = new Err<Integer, Exception>(new NoSuchElementException());
+
+        assertEquals(0, result.stream().count());
+    }
 }
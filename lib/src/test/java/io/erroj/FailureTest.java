@@ -0,0 +1,70 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class FailureTest {
+
+    private static final Failure NOT_FOUND = new Failure("not-found", "No such user");
+
+    @Test
+    public void shouldFail() {
+        Result<Integer, Failure> result = Result.fail("invalid", "Age must be positive");
+
+        assertTrue(result.isErr());
+        assertEquals("invalid", result.errOrThrow().code());
+        assertEquals("Age must be positive", result.errOrThrow().getMessage());
+    }
+
+    @Test
+    public void shouldNotHaveStackTrace() {
+        assertEquals(0, new Failure("invalid", "Age must be positive").getStackTrace().length);
+        assertEquals(0, NOT_FOUND.fillInStackTrace().getStackTrace().length);
+    }
+
+    @Test
+    public void shouldNotRecordSuppressed() {
+        NOT_FOUND.addSuppressed(new NoSuchElementException());
+
+        assertEquals(0, NOT_FOUND.getSuppressed().length);
+    }
+
+    @Test
+    public void shouldNotOverwriteCause() {
+        assertThrows(IllegalStateException.class, () -> NOT_FOUND.initCause(new NoSuchElementException()));
+    }
+
+    @Test
+    public void shouldKeepCause() {
+        var cause = new NoSuchElementException();
+
+        assertSame(cause, new Failure("not-found", "No such user", cause).getCause());
+    }
+
+    @Test
+    public void shouldBeRescued() {
+        var res = Result.<Integer, Failure>err(NOT_FOUND).rescue(Rescue.of(Failure.class, 10));
+
+        assertEquals(10, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldBeWrappedWhenThrown() {
+        var res = Result.of(() -> {
+            throw NOT_FOUND;
+        });
+
+        assertSame(NOT_FOUND, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldPrintCode() {
+        assertEquals("io.erroj.Failure[not-found]: No such user", NOT_FOUND.toString());
+    }
+}
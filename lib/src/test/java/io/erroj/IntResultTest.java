@@ -0,0 +1,118 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+public class IntResultTest {
+
+    @Test
+    public void shouldExtractOk() {
+        IntResult<Exception> result = IntResult.ok(10);
+
+        switch (result) {
+            case IntOk(var v) -> assertEquals(10, v);
+            default -> fail();
+        }
+    }
+
+    @Test
+    public void shouldHandleOkWhenOf() {
+        var result = IntResult.of(() -> 10);
+
+        assertTrue(result.isOk());
+        assertEquals(10, result.okOrThrow());
+        assertEquals(OptionalInt.of(10), result.ok());
+    }
+
+    @Test
+    public void shouldHandleExceptionWhenOf() {
+        var toBeThrown = new ArithmeticException();
+
+        var result = IntResult.of(() -> {
+            throw toBeThrown;
+        });
+
+        assertTrue(result.isErr());
+        assertEquals(toBeThrown, result.errOrThrow().getWrapped());
+        assertEquals(-1, result.orElse(-1));
+        assertThrows(NoSuchElementException.class, () -> result.okOrThrow());
+    }
+
+    @Test
+    public void shouldMapWhenOk() {
+        var result = IntResult.<Exception>ok(10)
+                .map(i -> i * 2)
+                .mapToLong(i -> i + 1L)
+                .mapToDouble(l -> l / 2.0);
+
+        assertEquals(10.5, result.okOrThrow());
+    }
+
+    @Test
+    public void shouldNotMapWhenErr() {
+        IntResult<Exception> result = IntResult.err(new NoSuchElementException());
+
+        var mapped = result.map(i -> {
+            fail("This lambda should not be invoked");
+            return i;
+        });
+
+        assertTrue(mapped.isErr());
+        assertEquals(result.errOrThrow(), mapped.errOrThrow());
+    }
+
+    @Test
+    public void shouldReturnErrWhenAndThenThrows() {
+        var thrownExcept = new ArithmeticException();
+
+        var result = IntResult.<Exception>ok(10).andThen(i -> {
+            if (i == 10)
+                throw thrownExcept;
+            return i;
+        });
+
+        assertTrue(result.isErr());
+        assertEquals(thrownExcept, result.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldNotRewrapWhenAndThenOnErr() {
+        var vt = new VariableThrowable(new ArithmeticException());
+        IntResult<VariableThrowable> result = IntResult.err(vt);
+
+        assertEquals(result, result.andThen(i -> i + 1));
+    }
+
+    @Test
+    public void shouldConvertToResult() {
+        assertEquals(new Ok<>(10), IntResult.ok(10).toResult());
+
+        var exception = new NoSuchElementException();
+        assertEquals(new Err<>(exception), IntResult.err(exception).toResult());
+    }
+
+    @Test
+    public void shouldConvertFromResult() {
+        assertEquals(IntResult.ok(10), IntResult.from(Result.ok(10)));
+
+        var exception = new NoSuchElementException();
+        var result = IntResult.from(Result.<Integer, NoSuchElementException>err(exception));
+        assertInstanceOf(IntErr.class, result);
+        assertEquals(exception, result.errOrThrow());
+    }
+
+    @Test
+    public void shouldMapToIntFromResult() {
+        Result<String, Exception> result = Result.ok("10");
+
+        assertEquals(10, result.mapToInt(Integer::parseInt).okOrThrow());
+    }
+}
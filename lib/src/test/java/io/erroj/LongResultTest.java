@@ -0,0 +1,46 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class LongResultTest {
+
+    @Test
+    public void shouldHandleExceptionWhenOf() {
+        var toBeThrown = new ArithmeticException();
+
+        var result = LongResult.of(() -> {
+            throw toBeThrown;
+        });
+
+        assertTrue(result.isErr());
+        assertEquals(toBeThrown, result.errOrThrow().getWrapped());
+        assertEquals(-1L, result.orElseGet(() -> -1L));
+    }
+
+    @Test
+    public void shouldAndThenWhenOk() {
+        var result = LongResult.of(() -> 10L).andThen(l -> Math.multiplyExact(l, Long.MAX_VALUE));
+
+        assertTrue(result.isErr());
+        assertEquals(ArithmeticException.class, result.errOrThrow().getWrapped().getClass());
+    }
+
+    @Test
+    public void shouldRoundTripThroughResult() {
+        assertEquals(LongResult.ok(10L), LongResult.from(LongResult.ok(10L).toResult()));
+
+        var exception = new NoSuchElementException();
+        assertEquals(LongResult.err(exception),
+                LongResult.from(LongResult.<NoSuchElementException>err(exception).toResult()));
+    }
+
+    @Test
+    public void shouldMapToObj() {
+        assertEquals(new Ok<>("10"), LongResult.ok(10L).mapToObj(Long::toString));
+    }
+}
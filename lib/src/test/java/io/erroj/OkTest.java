@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -224,6 +225,37 @@ public class OkTest {
         assertInstanceOf(NoSuchElementException.class, andThenRes.errOrThrow().getWrapped());
     }
 
+    @Test
+    public void shouldNotRewrapVariableThrowableWhenFlatMapErr() {
+        var vt = new VariableThrowable(new NoSuchElementException());
+        Result<Integer, VariableThrowable> failed = new Err<>(vt);
+
+        var andThenRes = new Ok<Integer, Exception>(10).flatMap(r -> failed);
+
+        assertEquals(failed, andThenRes);
+    }
+
+    @Test
+    public void shouldWrapOnlyOnceWhenLongFlatMapChain() {
+        var thrownExcept = new NoSuchElementException();
+        Result<Integer, VariableThrowable> result = new Err<>(new VariableThrowable(thrownExcept));
+
+        for (int i = 0; i < 1000; i++) {
+            var previous = result;
+            result = new Ok<Integer, Exception>(i).flatMap(r -> previous);
+        }
+
+        int depth = 0;
+        Throwable current = result.errOrThrow();
+        while (current instanceof VariableThrowable vt) {
+            current = vt.getWrapped();
+            depth++;
+        }
+
+        assertEquals(1, depth);
+        assertEquals(thrownExcept, current);
+    }
+
     @Test
     public void shouldReturnOkWhenAndThenAndOk() {
         Result<Integer, Exception> result = new Ok<Integer, Exception>(10);
@@ -293,4 +325,15 @@ public class OkTest {
         assertEquals(result, res);
     }
 
+    @Test
+    public void shouldStreamValue() {
+        Result<Integer, Exception> result = new Ok<Integer, Exception>(10);
+
+        assertEquals(List.of(10), result.stream().toList());
+    }
+
+    @Test
+    public void shouldStreamNothingWhenNullValue() {
+        assertEquals(0, Result.unit().stream().count());
+    }
 }
@@ -0,0 +1,107 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class RescuePlanTest {
+
+    @Test
+    public void shouldRescueWhenMatchedException() {
+        var plan = RescuePlan.of(
+                Rescue.of(ArithmeticException.class, 1),
+                Rescue.of(NoSuchElementException.class, () -> 10));
+
+        var res = new Err<Integer, Exception>(new NoSuchElementException()).rescue(plan);
+
+        assertTrue(res.isOk());
+        assertEquals(10, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldRescueWhenAssignableException() {
+        var plan = RescuePlan.of(Rescue.of(RuntimeException.class, 10));
+
+        var res = new Err<Integer, Exception>(new NoSuchElementException()).rescue(plan);
+
+        assertEquals(10, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldUseFirstMatchingRescue() {
+        var plan = RescuePlan.of(
+                Rescue.of(RuntimeException.class, 1),
+                Rescue.of(NoSuchElementException.class, 2));
+
+        var res = new Err<Integer, Exception>(new NoSuchElementException()).rescue(plan);
+
+        assertEquals(1, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldNotRescueWhenUnMatchedException() {
+        var plan = RescuePlan.of(Rescue.of(ArithmeticException.class, () -> {
+            fail("This lambda should not be invoked");
+            return 10;
+        }));
+
+        var result = new Err<Integer, Exception>(new NoSuchElementException());
+
+        assertSame(result, result.rescue(plan));
+    }
+
+    @Test
+    public void shouldRescueWrappedException() {
+        var plan = RescuePlan.of(Rescue.of(NoSuchElementException.class, 10));
+
+        var result = new Err<Integer, VariableThrowable>(new VariableThrowable(new NoSuchElementException()));
+
+        assertEquals(10, result.rescue(plan).okOrThrow());
+    }
+
+    @Test
+    public void shouldNotRescueWrappedUnMatchedException() {
+        var plan = RescuePlan.of(Rescue.of(ArithmeticException.class, 10));
+
+        var vt = new VariableThrowable(new NoSuchElementException());
+
+        var res = vt.rescue(plan);
+        assertTrue(res.isErr());
+        assertSame(vt, res.errOrThrow());
+    }
+
+    @Test
+    public void shouldReturnItselfWhenOk() {
+        var result = new Ok<Integer, Exception>(10);
+
+        assertSame(result, result.rescue(RescuePlan.of(Rescue.of(NoSuchElementException.class, 20))));
+    }
+
+    @Test
+    public void shouldFindByClass() {
+        var rescue = Rescue.of(IllegalArgumentException.class, 10);
+        var plan = RescuePlan.of(rescue);
+
+        assertEquals(rescue, plan.find(NumberFormatException.class).orElseThrow());
+        assertTrue(plan.find(ArithmeticException.class).isEmpty());
+    }
+
+    @Test
+    public void shouldNotBeModifiedByItsSource() {
+        var rescues = new ArrayList<Rescue<Integer>>();
+        rescues.add(Rescue.of(ArithmeticException.class, 10));
+
+        var plan = RescuePlan.of(rescues);
+        rescues.add(Rescue.of(NoSuchElementException.class, 20));
+
+        assertEquals(1, plan.rescues().size());
+        assertThrows(UnsupportedOperationException.class, () -> plan.rescues().clear());
+    }
+}
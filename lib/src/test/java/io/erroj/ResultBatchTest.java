@@ -0,0 +1,112 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultBatchTest {
+
+    private static final List<String> INPUTS = List.of("1", "a", "3", "b", "5");
+
+    private static int parse(String s) {
+        return Integer.parseInt(s);
+    }
+
+    @Test
+    public void shouldSplitOkValuesAndErrors() {
+        var batch = Results.mapAll(INPUTS, ResultBatchTest::parse);
+
+        assertEquals(5, batch.size());
+        assertEquals(3, batch.okCount());
+        assertEquals(2, batch.errCount());
+        assertEquals(List.of(1, 3, 5), batch.okValues());
+        assertEquals(2, batch.errors().size());
+        batch.errors().forEach(e -> assertInstanceOf(NumberFormatException.class, e));
+        assertEquals(1, batch.indexOfFirstErr());
+    }
+
+    @Test
+    public void shouldGiveAccessByIndex() {
+        var batch = Results.mapAll(INPUTS, ResultBatchTest::parse);
+
+        assertTrue(batch.isOk(0));
+        assertTrue(batch.isErr(3));
+        assertEquals(3, batch.value(2));
+        assertTrue(batch.error(3).getMessage().contains("\"b\""));
+        assertThrows(NoSuchElementException.class, () -> batch.value(1));
+        assertThrows(NoSuchElementException.class, () -> batch.error(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isOk(5));
+    }
+
+    @Test
+    public void shouldBuildResultsOnDemand() {
+        var batch = Results.mapAll(INPUTS, ResultBatchTest::parse);
+
+        assertEquals(5, batch.get(4).okOrThrow());
+        assertSame(batch.error(1), batch.get(1).errOrThrow().getWrapped());
+        assertSame(batch.error(1), batch.toResult().errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldVisitInOrder() {
+        var batch = Results.mapAll(INPUTS, ResultBatchTest::parse);
+        var visited = new ArrayList<String>();
+
+        batch.forEach(new ResultBatch.Visitor<Integer>() {
+            @Override
+            public void onOk(int index, Integer value) {
+                visited.add(index + ":" + value);
+            }
+
+            @Override
+            public void onErr(int index, Throwable error) {
+                visited.add(index + ":err");
+            }
+        });
+
+        assertEquals(List.of("0:1", "1:err", "2:3", "3:err", "4:5"), visited);
+    }
+
+    @Test
+    public void shouldReturnAllValuesWhenNoErr() {
+        var batch = Results.mapAll(List.of("1", "2"), ResultBatchTest::parse);
+
+        assertEquals(-1, batch.indexOfFirstErr());
+        assertTrue(batch.errors().isEmpty());
+        assertEquals(List.of(1, 2), batch.toResult().okOrThrow());
+    }
+
+    @Test
+    public void shouldKeepNullValues() {
+        var batch = Results.mapAll(List.of("1", "2"), s -> null);
+
+        assertFalse(batch.isErr(1));
+        assertEquals(2, batch.okValues().size());
+    }
+
+    @Test
+    public void shouldHandleManyErrors() {
+        var inputs = IntStream.range(0, 1000).boxed().toList();
+
+        var batch = Results.mapAll(inputs, i -> {
+            if (i % 3 == 0)
+                throw new ArithmeticException(Integer.toString(i));
+            return i;
+        });
+
+        assertEquals(334, batch.errCount());
+        assertEquals("999", batch.error(999).getMessage());
+        assertEquals(998, batch.value(998));
+        assertEquals(666, batch.okValues().size());
+    }
+}
@@ -0,0 +1,269 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultCacheTest {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+
+    @Test
+    public void shouldCacheOk() {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.of(10, LONG, LONG, (String key) -> {
+            loads.incrementAndGet();
+            return key.length();
+        });
+
+        var first = cache.get("abc");
+
+        assertEquals(3, first.okOrThrow());
+        assertSame(first, cache.get("abc"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldCacheErrForErrTtl() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.of(10, LONG, Duration.ofMillis(20), (String key) -> {
+            if (loads.incrementAndGet() == 1)
+                throw new IOException("down");
+            return key.length();
+        });
+
+        assertEquals("down", cache.get("abc").errOrThrow().getMessage());
+        assertTrue(cache.get("abc").isErr());
+        assertEquals(1, loads.get());
+
+        Thread.sleep(30);
+
+        assertEquals(3, cache.get("abc").okOrThrow());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldReloadWhenOkExpired() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.of(10, Duration.ofMillis(20), LONG, (String key) -> loads.incrementAndGet());
+
+        assertEquals(1, cache.get("abc").okOrThrow());
+        Thread.sleep(30);
+
+        assertEquals(2, cache.get("abc").okOrThrow());
+    }
+
+    @Test
+    public void shouldEvictWhenFull() {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.of(2, LONG, LONG, (String key) -> {
+            loads.incrementAndGet();
+            return key;
+        });
+
+        cache.get("a");
+        cache.get("b");
+        // a is read again, so b goes first
+        cache.get("a");
+        cache.get("c");
+
+        assertEquals(2, cache.size());
+        assertEquals(3, loads.get());
+        cache.get("a");
+        assertEquals(3, loads.get());
+        cache.get("b");
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void shouldServeStaleOkWhileRefreshing() throws InterruptedException {
+        var version = new AtomicInteger();
+        // holds any refresh after the first one, so the value stays at 2
+        var hold = new CountDownLatch(1);
+        var cache = ResultCache.refreshing(10, LONG, LONG, Duration.ofMillis(10), (String key) -> {
+            int v = version.incrementAndGet();
+            if (v > 2)
+                hold.await();
+            return v;
+        });
+
+        assertEquals(1, cache.get("abc").okOrThrow());
+        Thread.sleep(20);
+
+        // stale, and starts the refresh
+        assertEquals(1, cache.get("abc").okOrThrow());
+        while (cache.get("abc").okOrThrow() == 1) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals(2, cache.get("abc").okOrThrow());
+        assertEquals(1, cache.stats().misses());
+        hold.countDown();
+    }
+
+    @Test
+    public void shouldKeepStaleOkWhenRefreshFails() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var refreshed = new CountDownLatch(2);
+        var cache = ResultCache.refreshing(10, LONG, LONG, Duration.ofMillis(10), (String key) -> {
+            refreshed.countDown();
+            if (loads.incrementAndGet() > 1)
+                throw new IOException("down");
+            return 10;
+        });
+
+        cache.get("abc");
+        Thread.sleep(20);
+        cache.get("abc");
+        refreshed.await();
+
+        assertEquals(10, cache.get("abc").okOrThrow());
+    }
+
+    @Test
+    public void shouldNotRetryFailedRefreshBeforeErrTtl() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var refreshed = new CountDownLatch(2);
+        var cache = ResultCache.refreshing(10, LONG, LONG, Duration.ofMillis(10), (String key) -> {
+            refreshed.countDown();
+            if (loads.incrementAndGet() > 1)
+                throw new IOException("down");
+            return 10;
+        });
+
+        cache.get("abc");
+        Thread.sleep(20);
+        cache.get("abc");
+        refreshed.await();
+
+        long end = System.nanoTime() + Duration.ofMillis(100).toNanos();
+        while (System.nanoTime() - end < 0) {
+            assertEquals(10, cache.get("abc").okOrThrow());
+        }
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldLoadOnceWhenConcurrentMisses() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var cache = ResultCache.of(10, LONG, LONG, (String key) -> {
+            loads.incrementAndGet();
+            release.await();
+            return key;
+        });
+
+        List<Result<String, VariableThrowable>> results = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            threads.add(Thread.ofVirtual().start(() -> results.add(cache.get("abc"))));
+        }
+        Thread.sleep(50);
+        release.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(50, results.size());
+        for (var result : results) {
+            assertEquals("abc", result.okOrThrow());
+        }
+    }
+
+    @Test
+    public void shouldReloadWhenInvalidated() {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.of(10, LONG, LONG, (String key) -> loads.incrementAndGet());
+
+        cache.get("abc");
+        cache.invalidate("abc");
+
+        assertEquals(2, cache.get("abc").okOrThrow());
+    }
+
+    @Test
+    public void shouldKeepCapacityWhenInvalidated() {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.of(2, LONG, LONG, (String key) -> {
+            loads.incrementAndGet();
+            return key;
+        });
+
+        cache.get("a");
+        cache.get("b");
+        // referenced, so the hand would skip a stale slot of a and evict b
+        cache.get("a");
+        cache.invalidate("a");
+        cache.get("c");
+
+        assertEquals(2, cache.size());
+        cache.get("b");
+        cache.get("c");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void shouldNotPutBackWhenInvalidatedWhileRefreshing() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var refreshing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var cache = ResultCache.refreshing(10, LONG, LONG, Duration.ofMillis(10), (String key) -> {
+            if (loads.incrementAndGet() == 2) {
+                refreshing.countDown();
+                release.await();
+            }
+            return loads.get();
+        });
+
+        cache.get("abc");
+        Thread.sleep(20);
+        cache.get("abc");
+        refreshing.await();
+        cache.invalidate("abc");
+        release.countDown();
+        Thread.sleep(20);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldCountHitsMissesAndErrHits() {
+        var cache = ResultCache.of(10, LONG, LONG, (String key) -> {
+            if (key.isEmpty())
+                throw new IOException();
+            return key;
+        });
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("");
+        cache.get("");
+
+        var stats = cache.stats();
+        assertEquals(new ResultCache.Stats(2, 2, 1), stats);
+        assertEquals(4, stats.requests());
+        assertEquals(0.5, stats.hitRatio());
+        assertEquals(0.5, stats.missRatio());
+        assertEquals(0.25, stats.errHitRatio());
+    }
+
+    @Test
+    public void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> ResultCache.of(0, LONG, LONG, (String key) -> key));
+        assertThrows(IllegalArgumentException.class,
+                () -> ResultCache.of(1, Duration.ofSeconds(-1), LONG, (String key) -> key));
+    }
+}
@@ -0,0 +1,112 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultCollectorsTest {
+
+    private static Result<Integer, ArithmeticException> check(int i) {
+        return i % 100 == 99 ? new Err<>(new ArithmeticException(Integer.toString(i))) : new Ok<>(i);
+    }
+
+    @Test
+    public void shouldCollectValuesInOrder() {
+        Result<List<Integer>, Exception> res = Stream.<Result<Integer, Exception>>of(new Ok<>(1), new Ok<>(2),
+                new Ok<>(3)).collect(ResultCollectors.toResultList());
+
+        assertEquals(List.of(1, 2, 3), res.okOrThrow());
+    }
+
+    @Test
+    public void shouldKeepNullValues() {
+        Result<List<Integer>, Exception> res = Stream.<Result<Integer, Exception>>of(new Ok<>(1), new Ok<>(null))
+                .collect(ResultCollectors.toResultList());
+
+        assertEquals(Arrays.asList(1, null), res.okOrThrow());
+    }
+
+    @Test
+    public void shouldReturnFirstErr() {
+        var first = new NoSuchElementException();
+        Result<List<Integer>, Exception> res = Stream.<Result<Integer, Exception>>of(new Ok<>(1), new Err<>(first),
+                new Err<>(new ArithmeticException())).collect(ResultCollectors.toResultList());
+
+        assertEquals(first, res.errOrThrow());
+    }
+
+    @Test
+    public void shouldCollectInOrderWhenParallel() {
+        Result<List<Integer>, ArithmeticException> res = IntStream.range(0, 100_000).parallel().boxed()
+                .<Result<Integer, ArithmeticException>>map(Ok::new)
+                .collect(ResultCollectors.toResultList());
+
+        assertEquals(IntStream.range(0, 100_000).boxed().toList(), res.okOrThrow());
+    }
+
+    @Test
+    public void shouldReturnFirstErrWhenParallel() {
+        Result<List<Integer>, ArithmeticException> res = IntStream.range(0, 100_000).parallel()
+                .mapToObj(ResultCollectorsTest::check)
+                .collect(ResultCollectors.toResultList());
+
+        assertEquals("99", res.errOrThrow().getMessage());
+    }
+
+    @Test
+    public void shouldPartition() {
+        ResultCollectors.Partition<Integer, ArithmeticException> partition = IntStream.range(0, 1000)
+                .mapToObj(ResultCollectorsTest::check)
+                .collect(ResultCollectors.partitioning());
+
+        assertEquals(990, partition.oks().size());
+        assertEquals(10, partition.errs().size());
+        assertEquals("99", partition.errs().get(0).getMessage());
+        assertEquals(98, partition.oks().get(98));
+        assertEquals(100, partition.oks().get(99));
+    }
+
+    @Test
+    public void shouldPartitionInOrderWhenParallel() {
+        ResultCollectors.Partition<Integer, ArithmeticException> partition = IntStream.range(0, 100_000).parallel()
+                .mapToObj(ResultCollectorsTest::check)
+                .collect(ResultCollectors.partitioning());
+
+        var expected = IntStream.range(0, 100_000).filter(i -> i % 100 != 99).boxed().toList();
+        assertEquals(expected, partition.oks());
+        assertEquals(1000, partition.errs().size());
+        assertEquals("99999", partition.errs().get(999).getMessage());
+    }
+
+    @Test
+    public void shouldStopPullingAfterFirstErr() {
+        final int[] pulled = { 0 };
+
+        Result<List<Integer>, ArithmeticException> res = Results.upToFirstErr(IntStream.range(0, 1000)
+                .mapToObj(i -> {
+                    pulled[0]++;
+                    return check(i);
+                }))
+                .collect(ResultCollectors.toResultList());
+
+        assertInstanceOf(ArithmeticException.class, res.errOrThrow());
+        assertEquals(100, pulled[0]);
+    }
+
+    @Test
+    public void shouldEndWithErrWhenUpToFirstErrParallel() {
+        Result<List<Integer>, ArithmeticException> res = Results.upToFirstErr(IntStream.range(0, 100_000).parallel()
+                .mapToObj(ResultCollectorsTest::check))
+                .collect(ResultCollectors.toResultList());
+
+        assertTrue(res.isErr());
+    }
+}
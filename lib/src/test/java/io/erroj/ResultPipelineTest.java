@@ -0,0 +1,131 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultPipelineTest {
+
+    private static final ResultPipeline<String, Integer> PARSE = ResultPipeline.<String>start()
+            .map(String::trim)
+            .andThen(ResultPipelineTest::parse)
+            .map(i -> i * 2)
+            .flatMap(i -> i >= 0 ? Result.ok(i) : Result.fail("negative", "Must be positive"));
+
+    // not overloaded, unlike Integer::parseInt, so that andThen is not ambiguous
+    private static int parse(String s) {
+        return Integer.parseInt(s);
+    }
+
+    @Test
+    public void shouldApplyEveryStage() {
+        assertEquals(new Ok<>(84), PARSE.apply(" 42 "));
+    }
+
+    @Test
+    public void shouldBeReusable() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(2 * i, PARSE.apply(Integer.toString(i)).okOrThrow());
+        }
+    }
+
+    @Test
+    public void shouldReturnErrWhenAndThenThrows() {
+        var res = PARSE.apply("forty two");
+
+        assertTrue(res.isErr());
+        assertInstanceOf(NumberFormatException.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldReturnErrWhenFlatMapErr() {
+        var res = PARSE.apply("-1");
+
+        assertInstanceOf(Failure.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldNotRewrapWhenFlatMapVariableThrowable() {
+        var vt = new VariableThrowable(new NoSuchElementException());
+
+        var res = ResultPipeline.<Integer>start()
+                .flatMap(i -> new Err<Integer, VariableThrowable>(vt))
+                .apply(10);
+
+        assertSame(vt, res.errOrThrow());
+    }
+
+    @Test
+    public void shouldReturnErrWhenMapThrows() {
+        var toBeThrown = new ArithmeticException();
+
+        var res = ResultPipeline.<Integer>start()
+                .map(i -> {
+                    throw toBeThrown;
+                })
+                .apply(10);
+
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldNotRunStagesAfterFailure() {
+        var res = ResultPipeline.<Integer>start()
+                .andThen((Integer i) -> {
+                    throw new NoSuchElementException();
+                })
+                .map(i -> {
+                    fail("This lambda should not be invoked");
+                    return i;
+                })
+                .apply(10);
+
+        assertTrue(res.isErr());
+    }
+
+    @Test
+    public void shouldRunConsumerStage() {
+        var seen = new ArrayList<Integer>();
+
+        var res = ResultPipeline.<Integer>start()
+                .andThen((Integer i) -> {
+                    seen.add(i);
+                })
+                .apply(10);
+
+        assertEquals(10, res.okOrThrow());
+        assertEquals(10, seen.get(0));
+    }
+
+    @Test
+    public void shouldMatchEquivalentChain() {
+        for (var input : new String[] { "1", " 2", "x", "-3" }) {
+            var chain = Result.ok(input)
+                    .map(String::trim)
+                    .andThen(ResultPipelineTest::parse)
+                    .map(i -> i * 2)
+                    .flatMap(i -> i >= 0 ? Result.ok(i) : Result.fail("negative", "Must be positive"));
+
+            var fused = PARSE.apply(input);
+
+            assertEquals(chain.ok(), fused.ok());
+            assertEquals(chain.err().map(VariableThrowable::getWrappedClass),
+                    fused.err().map(VariableThrowable::getWrappedClass));
+        }
+    }
+
+    @Test
+    public void shouldApplyToResult() {
+        var vt = new VariableThrowable(new NoSuchElementException());
+
+        assertEquals(new Ok<>(20), PARSE.applyTo(Result.ok("10")));
+        assertSame(vt, PARSE.applyTo(new Err<String, VariableThrowable>(vt)).errOrThrow());
+    }
+}
@@ -0,0 +1,420 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultProcessorTest {
+
+    /**
+     * Publishes 0 until count, synchronously, as requested, and records the
+     * requests.
+     */
+    private static final class Range implements Flow.Publisher<Integer> {
+
+        private final int count;
+
+        private final List<Long> requests = new CopyOnWriteArrayList<>();
+
+        private volatile boolean cancelled;
+
+        private Range(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long demand;
+                private int next;
+                private boolean emitting;
+
+                @Override
+                public synchronized void request(long n) {
+                    requests.add(n);
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < count && !cancelled) {
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    emitting = false;
+                    if (next == count && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Records what it receives, requesting initial items at first.
+     */
+    private static class Sink<V> implements Flow.Subscriber<V> {
+
+        private final long initial;
+
+        private final List<V> items = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        private Sink(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(V item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        private void await() throws InterruptedException {
+            assertTrue(terminated.await(1, TimeUnit.MINUTES));
+        }
+    }
+
+    private static int checkEven(int i) {
+        if (i % 2 != 0)
+            throw new IllegalArgumentException(Integer.toString(i));
+        return i;
+    }
+
+    @Test
+    public void shouldMapEveryItemInOrder() throws InterruptedException {
+        var processor = ResultProcessor.of(ResultProcessorTest::checkEven);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(Long.MAX_VALUE);
+
+        processor.subscribe(sink);
+        new Range(1000).subscribe(processor);
+        sink.await();
+
+        assertEquals(1000, sink.items.size());
+        assertEquals(10, sink.items.get(10).okOrThrow());
+        assertEquals("11", sink.items.get(11).errOrThrow().getMessage());
+    }
+
+    @Test
+    public void shouldHonourDemand() {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(2);
+
+        processor.subscribe(sink);
+        new Range(1000).subscribe(processor);
+
+        assertEquals(2, sink.items.size());
+
+        sink.subscription.request(3);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), sink.items.stream().map(Result::okOrThrow).toList());
+    }
+
+    @Test
+    public void shouldRequestUpstreamByBatches() throws InterruptedException {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(Long.MAX_VALUE);
+        var range = new Range(1000);
+
+        processor.subscribe(sink);
+        range.subscribe(processor);
+        sink.await();
+
+        int batch = Flow.defaultBufferSize();
+        assertEquals(batch, range.requests.get(0));
+        assertTrue(range.requests.stream().allMatch(n -> n == batch || n == batch - batch / 4));
+        assertTrue(range.requests.size() < 10);
+    }
+
+    @Test
+    public void shouldNotBufferMoreThanBatchWithoutDemand() {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(1);
+        var range = new Range(100_000);
+
+        processor.subscribe(sink);
+        range.subscribe(processor);
+
+        assertEquals(List.of((long) Flow.defaultBufferSize()), range.requests);
+    }
+
+    @Test
+    public void shouldKeepOrderWhenParallel() throws InterruptedException {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var processor = ResultProcessor.parallel((Integer i) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+            running.decrementAndGet();
+            return checkEven(i);
+        }, 4);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(Long.MAX_VALUE);
+
+        processor.subscribe(sink);
+        new Range(200).subscribe(processor);
+        sink.await();
+
+        assertEquals(200, sink.items.size());
+        for (int i = 0; i < 200; i += 2) {
+            assertEquals(i, sink.items.get(i).okOrThrow());
+            assertEquals(Integer.toString(i + 1), sink.items.get(i + 1).errOrThrow().getMessage());
+        }
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void shouldSplitValuesAndErrors() throws InterruptedException {
+        var processor = ResultProcessor.of(ResultProcessorTest::checkEven);
+        var values = new Sink<Integer>(Long.MAX_VALUE);
+        var errors = new Sink<VariableThrowable>(Long.MAX_VALUE);
+
+        var split = processor.split();
+        split.values().subscribe(values);
+        split.errors().subscribe(errors);
+        new Range(10).subscribe(processor);
+        values.await();
+        errors.await();
+
+        assertEquals(List.of(0, 2, 4, 6, 8), values.items);
+        assertEquals(List.of("1", "3", "5", "7", "9"), errors.items.stream().map(Throwable::getMessage).toList());
+    }
+
+    @Test
+    public void shouldNotRequestUntilBothSidesSubscribed() {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var values = new Sink<Integer>(Long.MAX_VALUE);
+        var range = new Range(1000);
+
+        var split = processor.split();
+        split.values().subscribe(values);
+        range.subscribe(processor);
+
+        assertTrue(values.items.isEmpty());
+
+        split.errors().subscribe(new Sink<>(Long.MAX_VALUE));
+
+        assertEquals(1000, values.items.size());
+    }
+
+    @Test
+    public void shouldPaceSplitOnSlowestSide() {
+        var processor = ResultProcessor.of(ResultProcessorTest::checkEven);
+        var values = new Sink<Integer>(Long.MAX_VALUE);
+        var errors = new Sink<VariableThrowable>(1);
+        var range = new Range(100_000);
+
+        var split = processor.split();
+        split.values().subscribe(values);
+        split.errors().subscribe(errors);
+        range.subscribe(processor);
+
+        assertEquals(1, errors.items.size());
+        // no more than a batch of Results is held for the errors side
+        int batch = Flow.defaultBufferSize();
+        assertTrue(values.items.size() <= 2 * batch);
+
+        errors.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(50_000, values.items.size());
+        assertEquals(50_000, errors.items.size());
+    }
+
+    @Test
+    public void shouldKeepOtherSideWhenOneCancels() {
+        var processor = ResultProcessor.of(ResultProcessorTest::checkEven);
+        var values = new Sink<Integer>(Long.MAX_VALUE);
+        var errors = new Sink<VariableThrowable>(1);
+        var range = new Range(1000);
+
+        var split = processor.split();
+        split.values().subscribe(values);
+        split.errors().subscribe(errors);
+        errors.subscription.cancel();
+        range.subscribe(processor);
+
+        assertEquals(500, values.items.size());
+        assertTrue(errors.items.isEmpty());
+    }
+
+    @Test
+    public void shouldCancelUpstreamWhenBothSidesCancel() {
+        var processor = ResultProcessor.of(ResultProcessorTest::checkEven);
+        var values = new Sink<Integer>(1);
+        var errors = new Sink<VariableThrowable>(1);
+        var range = new Range(100_000);
+
+        var split = processor.split();
+        split.values().subscribe(values);
+        split.errors().subscribe(errors);
+        range.subscribe(processor);
+        values.subscription.cancel();
+
+        assertFalse(range.cancelled);
+
+        errors.subscription.cancel();
+
+        assertTrue(range.cancelled);
+    }
+
+    @Test
+    public void shouldRejectSecondSubscriberOfSide() throws InterruptedException {
+        var split = ResultProcessor.of((Integer i) -> i).split();
+        split.values().subscribe(new Sink<>(1));
+
+        var second = new Sink<Integer>(1);
+        split.values().subscribe(second);
+        second.await();
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    public void shouldForwardUpstreamErrorAfterItems() throws InterruptedException {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(Long.MAX_VALUE);
+        var failure = new IllegalStateException("source failed");
+
+        processor.subscribe(sink);
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        processor.onNext(1);
+        processor.onError(failure);
+        sink.await();
+
+        assertEquals(1, sink.items.size());
+        assertEquals(failure, sink.error);
+    }
+
+    @Test
+    public void shouldCancelUpstream() {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(1);
+        var range = new Range(1000);
+
+        processor.subscribe(sink);
+        range.subscribe(processor);
+        sink.subscription.cancel();
+
+        assertTrue(range.cancelled);
+    }
+
+    @Test
+    public void shouldInterruptMappingsWhenCancelled() throws InterruptedException {
+        var started = new CountDownLatch(2);
+        var interrupted = new CountDownLatch(2);
+        var processor = ResultProcessor.parallel((Integer i) -> {
+            started.countDown();
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return i;
+        }, 2);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(1);
+
+        processor.subscribe(sink);
+        new Range(2).subscribe(processor);
+        started.await();
+        sink.subscription.cancel();
+
+        assertTrue(interrupted.await(1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void shouldSignalErrorWhenSubscriberThrows() throws InterruptedException {
+        var failure = new IllegalStateException("subscriber failed");
+        var processor = ResultProcessor.of((Integer i) -> i);
+        Sink<Result<Integer, VariableThrowable>> sink = new Sink<>(Long.MAX_VALUE) {
+            @Override
+            public void onNext(Result<Integer, VariableThrowable> item) {
+                throw failure;
+            }
+        };
+        var range = new Range(1000);
+
+        processor.subscribe(sink);
+        range.subscribe(processor);
+        sink.await();
+
+        assertSame(failure, sink.error);
+        assertTrue(range.cancelled);
+    }
+
+    @Test
+    public void shouldSignalErrorWhenInvalidRequest() throws InterruptedException {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        var sink = new Sink<Result<Integer, VariableThrowable>>(0);
+
+        processor.subscribe(sink);
+        new Range(10).subscribe(processor);
+        sink.await();
+
+        assertInstanceOf(IllegalArgumentException.class, sink.error);
+    }
+
+    @Test
+    public void shouldRejectSecondSubscriber() throws InterruptedException {
+        var processor = ResultProcessor.of((Integer i) -> i);
+        processor.subscribe(new Sink<>(1));
+
+        var second = new Sink<Result<Integer, VariableThrowable>>(1);
+        processor.subscribe(second);
+        second.await();
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    public void shouldRejectInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> ResultProcessor.parallel((Integer i) -> i, 0));
+    }
+}
@@ -2,9 +2,19 @@ package io.erroj;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,4 +92,239 @@ public class ResultTest {
         assertTrue(result.isOk());
         assertEquals(10, result.okOrThrow());
     }
+
+    @Test
+    public void shouldShareUnit() {
+        assertSame(Result.unit(), Result.of(() -> {
+        }));
+        assertSame(Result.unit(), Result.ok(null));
+    }
+
+    @Test
+    public void shouldShareBooleans() {
+        assertSame(Result.ok(true), Result.of(() -> true));
+        assertSame(Result.ok(false), Result.ok(10).map(i -> i > 20));
+        assertTrue(Result.ok(true).ok().orElseThrow());
+    }
+
+    @Test
+    public void shouldGetEmptyOptionalWhenUnit() {
+        assertTrue(Result.unit().ok().isEmpty());
+    }
+
+    private int counter = 0;
+
+    @Test
+    public void shouldNotAllocateWhenOfRunnableOk() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+
+        var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        int calls = 100_000;
+        CheckedRunnable increment = () -> counter++;
+
+        // warm up, so that class loading and linkage don't get counted
+        for (int i = 0; i < calls; i++) {
+            Result.of(increment);
+        }
+
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < calls; i++) {
+            Result.of(increment);
+        }
+        long after = bean.getCurrentThreadAllocatedBytes();
+
+        assertEquals(0, (after - before) / calls);
+        assertEquals(2 * calls, counter);
+    }
+
+    @Test
+    public void shouldLoopInConstantStack() {
+        var res = Result.loop(10_000_000L, n -> n == 0
+                ? Result.ok(Step.done("done"))
+                : Result.ok(Step.more(n - 1)));
+
+        assertEquals("done", res.okOrThrow());
+    }
+
+    private record Node(int value, Node next) {
+        Result<Node, NoSuchElementException> child() {
+            return next == null ? Result.err(new NoSuchElementException()) : Result.ok(next);
+        }
+    }
+
+    @Test
+    public void shouldLoopThroughDeepStructure() {
+        Node head = new Node(0, null);
+        for (int i = 1; i < 1_000_000; i++) {
+            head = new Node(i, head);
+        }
+
+        var res = Result.<Node, Integer, NoSuchElementException>loop(head, n -> n.value() == 0
+                ? Result.ok(Step.done(n.value()))
+                : n.child().map(Step::more));
+
+        assertEquals(0, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldStopLoopWhenErr() {
+        var toBeThrown = new ArithmeticException();
+
+        var res = Result.<Integer, Integer, ArithmeticException>loop(0, n -> n == 1000
+                ? Result.err(toBeThrown)
+                : Result.ok(Step.more(n + 1)));
+
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldStopLoopWhenStepThrows() {
+        var toBeThrown = new ArithmeticException();
+
+        var res = Result.<Integer, Integer, ArithmeticException>loop(0, n -> {
+            if (n == 1000)
+                throw toBeThrown;
+            return Result.ok(Step.more(n + 1));
+        });
+
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+    }
+
+    private static final RetryPolicy FAST_RETRIES = RetryPolicy.of(3)
+            .withBackoff(Duration.ofMillis(1), Duration.ofMillis(5));
+
+    @Test
+    public void shouldRetryUntilOk() {
+        var attempts = new int[] { 0 };
+
+        var res = Result.retry(() -> {
+            if (++attempts[0] < 3)
+                throw new IOException();
+            return 10;
+        }, FAST_RETRIES);
+
+        assertEquals(10, res.okOrThrow());
+        assertEquals(3, attempts[0]);
+    }
+
+    @Test
+    public void shouldReturnLastErrWhenRetriesExhausted() {
+        var attempts = new int[] { 0 };
+
+        var res = Result.retry(() -> {
+            throw new IOException(Integer.toString(++attempts[0]));
+        }, FAST_RETRIES);
+
+        assertEquals("3", res.errOrThrow().getMessage());
+    }
+
+    @Test
+    public void shouldNotRetryUnmatchedException() {
+        var attempts = new int[] { 0 };
+
+        var res = Result.retry(() -> {
+            attempts[0]++;
+            throw new NoSuchElementException();
+        }, FAST_RETRIES.retryOn(IOException.class));
+
+        assertTrue(res.isErr());
+        assertEquals(1, attempts[0]);
+    }
+
+    @Test
+    public void shouldOnlyAllocateOkWhenRetryFirstAttemptOk() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+
+        var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        int calls = 100_000;
+        var value = "value";
+        CheckedSupplier<String> supplier = () -> value;
+
+        for (int i = 0; i < calls; i++) {
+            Result.retry(supplier, FAST_RETRIES);
+        }
+
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < calls; i++) {
+            Result.retry(supplier, FAST_RETRIES);
+        }
+        long after = bean.getCurrentThreadAllocatedBytes();
+
+        // a compressed Ok is 16 bytes
+        assertTrue((after - before) / calls <= 16);
+    }
+
+    @Test
+    public void shouldReturnOkWhenInTime() {
+        var res = Result.ofWithTimeout(() -> Thread.currentThread().isVirtual(), Duration.ofMinutes(1));
+
+        assertTrue(res.okOrThrow());
+    }
+
+    @Test
+    public void shouldReturnErrWhenFailedInTime() {
+        var res = Result.ofWithTimeout(() -> {
+            throw new IOException("failed");
+        }, Duration.ofMinutes(1));
+
+        assertEquals("failed", res.errOrThrow().getMessage());
+    }
+
+    @Test
+    public void shouldTimeoutAndInterruptWorker() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+
+        var res = Result.ofWithTimeout(() -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 10;
+        }, Duration.ofMillis(5), late -> fail("An interrupted worker should not be late"));
+
+        assertInstanceOf(TimeoutException.class, res.errOrThrow().getWrapped());
+        assertTrue(interrupted.await(1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void shouldHandOffLateResult() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var late = new ArrayBlockingQueue<Result<Integer, VariableThrowable>>(1);
+
+        var res = Result.ofWithTimeout(() -> {
+            // ignores interrupts, like a blocking call that can't be stopped
+            while (true) {
+                try {
+                    release.await();
+                    return 10;
+                } catch (InterruptedException e) {
+                }
+            }
+        }, Duration.ofMillis(5), late::add);
+
+        assertInstanceOf(TimeoutException.class, res.errOrThrow().getWrapped());
+        release.countDown();
+        assertEquals(10, late.poll(1, TimeUnit.MINUTES).okOrThrow());
+    }
+
+    @Test
+    public void shouldReturnErrWhenInterruptedWhileWaitingForTimeout() {
+        Thread.currentThread().interrupt();
+
+        var res = Result.ofWithTimeout(() -> {
+            Thread.sleep(Duration.ofMinutes(1));
+            return 10;
+        }, Duration.ofMinutes(1));
+
+        assertTrue(Thread.interrupted());
+        assertInstanceOf(InterruptedException.class, res.errOrThrow().getWrapped());
+    }
 }
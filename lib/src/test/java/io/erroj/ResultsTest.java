@@ -0,0 +1,308 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultsTest {
+
+    // longer than any test, so that only a failure starts another attempt
+    private static final Duration NEVER = Duration.ofDays(1);
+
+    // until interrupted
+    private static <V> V blockForever() throws InterruptedException {
+        new CountDownLatch(1).await();
+        throw new AssertionError("unreachable");
+    }
+
+    @Test
+    public void shouldCollectAllInOrder() {
+        var secondDone = new CountDownLatch(1);
+
+        var res = Results.all(
+                () -> {
+                    // completes last
+                    secondDone.await();
+                    return 1;
+                },
+                () -> {
+                    secondDone.countDown();
+                    return 2;
+                },
+                () -> null);
+
+        assertEquals(Arrays.asList(1, 2, null), res.okOrThrow());
+    }
+
+    @Test
+    public void shouldCollectAllEmpty() {
+        assertEquals(List.of(), Results.all(List.<CheckedSupplier<Integer>>of()).okOrThrow());
+    }
+
+    @Test
+    public void shouldRunAllConcurrently() {
+        // only trips once the three suppliers are running at the same time
+        var barrier = new CyclicBarrier(3);
+
+        var res = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Results.all(
+                () -> barrier.await(),
+                () -> barrier.await(),
+                () -> barrier.await()));
+
+        assertEquals(List.of(0, 1, 2), res.okOrThrow().stream().sorted().toList());
+    }
+
+    @Test
+    public void shouldFailFastAndCancelSiblings() throws InterruptedException {
+        var toBeThrown = new ArithmeticException();
+        var interrupted = new CountDownLatch(1);
+
+        var res = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Results.<Integer>all(
+                () -> {
+                    try {
+                        return blockForever();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                },
+                () -> {
+                    throw toBeThrown;
+                }));
+
+        assertSame(toBeThrown, res.errOrThrow().getWrapped());
+        interrupted.await();
+    }
+
+    @Test
+    public void shouldRestoreInterruptFlagWhenAll() {
+        Thread.currentThread().interrupt();
+
+        var res = Results.all(ResultsTest::<Integer>blockForever);
+
+        // clears the flag, so that it doesn't leak to the other tests
+        assertTrue(Thread.interrupted());
+        assertInstanceOf(InterruptedException.class, res.errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldReturnFirstOkAndCancelOthers() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+
+        var res = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Results.<String>any(
+                () -> {
+                    try {
+                        return blockForever();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                },
+                () -> {
+                    throw new NoSuchElementException();
+                },
+                () -> "fast"));
+
+        assertEquals("fast", res.okOrThrow());
+        interrupted.await();
+    }
+
+    @Test
+    public void shouldCarryEveryFailureWhenNoneOk() {
+        var first = new NoSuchElementException();
+        var second = new ArithmeticException();
+        var firstThread = new CompletableFuture<Thread>();
+
+        var res = Results.<Integer>any(
+                () -> {
+                    firstThread.complete(Thread.currentThread());
+                    throw first;
+                },
+                () -> {
+                    // the first failure is queued before its thread ends
+                    firstThread.join().join();
+                    throw second;
+                });
+
+        var failure = assertInstanceOf(AllFailedException.class, res.errOrThrow().getWrapped());
+        assertArrayEquals(new Throwable[] { first, second }, failure.getSuppressed());
+    }
+
+    @Test
+    public void shouldNotHedgeWhenFast() {
+        var hedged = Results.hedge(() -> 10, NEVER, 3);
+
+        assertEquals(10, hedged.result().okOrThrow());
+        assertEquals(0, hedged.extraAttempts());
+    }
+
+    @Test
+    public void shouldHedgeWhenSlowAndCancelLoser() throws InterruptedException {
+        var attempts = new AtomicInteger();
+        var interrupted = new CountDownLatch(1);
+
+        var hedged = Results.<String>hedge(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    return blockForever();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            }
+            return "hedged";
+        }, Duration.ofMillis(1), 2);
+
+        assertEquals("hedged", hedged.result().okOrThrow());
+        assertEquals(1, hedged.hedges());
+        assertEquals(0, hedged.retries());
+        interrupted.await();
+    }
+
+    @Test
+    public void shouldRetryRightAwayWhenAttemptFails() {
+        var attempts = new AtomicInteger();
+
+        var hedged = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Results.hedge(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new NoSuchElementException();
+            }
+            return 10;
+        }, NEVER, 2));
+
+        assertEquals(10, hedged.result().okOrThrow());
+        assertEquals(0, hedged.hedges());
+        assertEquals(1, hedged.retries());
+    }
+
+    @Test
+    public void shouldCarryEveryFailureWhenAllAttemptsFail() {
+        var attempts = new AtomicInteger();
+
+        var hedged = Results.<Integer>hedge(() -> {
+            throw new ArithmeticException(Integer.toString(attempts.incrementAndGet()));
+        }, NEVER, 3);
+
+        var failure = assertInstanceOf(AllFailedException.class, hedged.result().errOrThrow().getWrapped());
+        assertEquals(3, failure.getSuppressed().length);
+        assertEquals(0, hedged.hedges());
+        assertEquals(2, hedged.retries());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void shouldNotHedgeBeyondMaxAttempts() {
+        var attempts = new AtomicInteger();
+
+        var hedged = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            var caller = Thread.currentThread();
+            return Results.<Integer>hedge(() -> {
+                if (attempts.getAndIncrement() == 0) {
+                    return blockForever();
+                }
+                // the caller only waits without a timeout once it may not
+                // hedge anymore
+                while (caller.getState() != Thread.State.WAITING) {
+                    Thread.onSpinWait();
+                }
+                return 10;
+            }, Duration.ofMillis(1), 2);
+        });
+
+        assertEquals(10, hedged.result().okOrThrow());
+        assertEquals(1, hedged.hedges());
+        assertEquals(0, hedged.retries());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void shouldRejectNoAttempt() {
+        assertThrows(IllegalArgumentException.class, () -> Results.hedge(() -> 10, Duration.ZERO, 0));
+    }
+
+    private static final List<Integer> RANGE = IntStream.range(0, 10_000).boxed().toList();
+
+    @Test
+    public void shouldTraverseInOrder() {
+        var res = Results.traverseParallel(RANGE, i -> i * 2, new ForkJoinPool(4));
+
+        assertEquals(RANGE.stream().map(i -> i * 2).toList(), res.okOrThrow());
+    }
+
+    @Test
+    public void shouldTraverseEmptyList() {
+        assertEquals(List.of(), Results.traverseParallel(List.<Integer>of(), i -> i).okOrThrow());
+    }
+
+    @Test
+    public void shouldStopTraversalWhenErr() {
+        var calls = new AtomicInteger();
+
+        var res = Results.traverseParallel(RANGE, i -> {
+            calls.incrementAndGet();
+            if (i == 100)
+                throw new ArithmeticException("100");
+            return i;
+        }, new ForkJoinPool(1));
+
+        assertEquals("100", res.errOrThrow().getMessage());
+        assertTrue(calls.get() < RANGE.size());
+    }
+
+    @Test
+    public void shouldCollectEveryFailureWhenMapAllParallel() {
+        var res = Results.mapAllParallel(RANGE, i -> {
+            if (i % 7 == 0)
+                throw new ArithmeticException(Integer.toString(i));
+            return i;
+        }, new ForkJoinPool(4));
+
+        var sequential = Results.mapAll(RANGE, i -> {
+            if (i % 7 == 0)
+                throw new ArithmeticException(Integer.toString(i));
+            return i;
+        });
+
+        assertEquals(sequential.errCount(), res.errCount());
+        assertEquals(sequential.okValues(), res.okValues());
+        assertEquals(0, res.indexOfFirstErr());
+        assertEquals("9996", res.error(9996).getMessage());
+        assertTrue(res.isOk(9997));
+    }
+
+    @Test
+    public void shouldLiftCheckedFunction() {
+        var parse = Results.lift((String s) -> Integer.parseInt(s));
+
+        assertEquals(10, parse.apply("10").okOrThrow());
+        assertInstanceOf(NumberFormatException.class, parse.apply("ten").errOrThrow().getWrapped());
+    }
+
+    @Test
+    public void shouldMapStreamWithLiftedFunction() {
+        var values = Stream.of("1", "x", "3")
+                .map(Results.lift((String s) -> Integer.parseInt(s)))
+                .flatMap(Result::stream)
+                .toList();
+
+        assertEquals(List.of(1, 3), values);
+    }
+}
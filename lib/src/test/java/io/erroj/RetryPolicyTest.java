@@ -0,0 +1,105 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class RetryPolicyTest {
+
+    private static final long MS = 1_000_000;
+
+    @Test
+    public void shouldBackOffExponentially() {
+        var policy = RetryPolicy.of(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(1000))
+                .withJitter(RetryPolicy.Jitter.NONE);
+
+        assertEquals(100 * MS, policy.delayNanos(1, 0, 0));
+        assertEquals(200 * MS, policy.delayNanos(2, 0, 0));
+        assertEquals(400 * MS, policy.delayNanos(3, 0, 0));
+        assertEquals(1000 * MS, policy.delayNanos(5, 0, 0));
+        assertEquals(1000 * MS, policy.withMaxAttempts(200).delayNanos(100, 0, 0));
+    }
+
+    @Test
+    public void shouldStayUnderExponentialWithFullJitter() {
+        var policy = RetryPolicy.of(10).withBackoff(Duration.ofMillis(100), Duration.ofMillis(1000));
+
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.delayNanos(3, 0, 0);
+            assertTrue(delay >= 0 && delay <= 400 * MS);
+        }
+    }
+
+    @Test
+    public void shouldStayBetweenBaseAndThreeTimesPreviousWithDecorrelatedJitter() {
+        var policy = RetryPolicy.of(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(1000))
+                .withJitter(RetryPolicy.Jitter.DECORRELATED);
+
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.delayNanos(3, 200 * MS, 0);
+            assertTrue(delay >= 100 * MS && delay <= 600 * MS);
+            assertTrue(policy.delayNanos(3, 900 * MS, 0) <= 1000 * MS);
+        }
+    }
+
+    @Test
+    public void shouldStopAfterMaxAttempts() {
+        var policy = RetryPolicy.of(3);
+
+        assertTrue(policy.delayNanos(2, 0, 0) >= 0);
+        assertEquals(-1, policy.delayNanos(3, 0, 0));
+    }
+
+    @Test
+    public void shouldStopWhenPastDeadline() {
+        var policy = RetryPolicy.of(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(100))
+                .withDeadline(Duration.ofMillis(250));
+
+        assertEquals(100 * MS, policy.withJitter(RetryPolicy.Jitter.NONE).delayNanos(1, 0, 100 * MS));
+        assertEquals(-1, policy.withJitter(RetryPolicy.Jitter.NONE).delayNanos(1, 0, 200 * MS));
+    }
+
+    @Test
+    public void shouldRetryMatchingExceptionsOnly() {
+        var policy = RetryPolicy.of(3).retryOn(IOException.class);
+
+        assertTrue(policy.isRetryable(new VariableThrowable(new FileNotFoundException())));
+        assertFalse(policy.isRetryable(new VariableThrowable(new NoSuchElementException())));
+        assertFalse(policy.isRetryable(new VariableThrowable(new StackOverflowError())));
+    }
+
+    @Test
+    public void shouldNotRetryInterruption() {
+        assertFalse(RetryPolicy.of(3).isRetryable(new VariableThrowable(new InterruptedException())));
+    }
+
+    @Test
+    public void shouldRejectInvalidPolicies() {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.of(3).withBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of(3)
+                .withBackoff(Duration.ZERO, Duration.ofSeconds(1))
+                .withJitter(RetryPolicy.Jitter.DECORRELATED));
+    }
+
+    @Test
+    public void shouldNotOverflowWhenDelaysReachLongMaxValue() {
+        var longest = Duration.ofNanos(Long.MAX_VALUE);
+        var policy = RetryPolicy.of(3).withBackoff(longest, longest);
+
+        assertTrue(policy.delayNanos(1, 0, 0) >= 0);
+        assertTrue(policy.withJitter(RetryPolicy.Jitter.DECORRELATED).delayNanos(1, Long.MAX_VALUE, 0) >= 0);
+    }
+}
@@ -0,0 +1,142 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+    // starts n virtual threads calling the same key with the supplier, each
+    // adding its Result to results
+    private static List<Thread> herd(SingleFlight<String, Integer> flight, int n, CheckedSupplier<Integer> supplier,
+            ConcurrentLinkedQueue<Result<Integer, VariableThrowable>> results) {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            threads.add(Thread.ofVirtual().start(() -> results.add(flight.call("key", supplier))));
+        }
+        return threads;
+    }
+
+    // waits until every thread blocks, on the call in flight
+    private static void awaitWaiting(List<Thread> threads) {
+        for (var thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Test
+    public void shouldShareSingleCallBetweenConcurrentCallers() throws InterruptedException {
+        var flight = new SingleFlight<String, Integer>();
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var results = new ConcurrentLinkedQueue<Result<Integer, VariableThrowable>>();
+
+        var leader = Thread.ofVirtual().start(() -> results.add(flight.call("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return 1000;
+        })));
+        started.await();
+
+        var followers = herd(flight, 100, () -> {
+            fail("This lambda should not be invoked");
+            return 0;
+        }, results);
+        awaitWaiting(followers);
+        release.countDown();
+
+        leader.join();
+        for (var follower : followers) {
+            follower.join();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(101, results.size());
+        var first = results.peek();
+        assertEquals(1000, first.okOrThrow());
+        results.forEach(res -> assertSame(first, res));
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void shouldShareErr() throws InterruptedException {
+        var flight = new SingleFlight<String, Integer>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var results = new ConcurrentLinkedQueue<Result<Integer, VariableThrowable>>();
+
+        var leader = Thread.ofVirtual().start(() -> results.add(flight.call("key", () -> {
+            started.countDown();
+            release.await();
+            throw new IOException("down");
+        })));
+        started.await();
+
+        var follower = herd(flight, 1, () -> 10, results).get(0);
+        awaitWaiting(List.of(follower));
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertEquals(2, results.size());
+        results.forEach(res -> assertEquals("down", res.errOrThrow().getMessage()));
+    }
+
+    @Test
+    public void shouldCallAgainOnceCompleted() {
+        var flight = new SingleFlight<String, Integer>();
+        var calls = new AtomicInteger();
+
+        flight.call("key", calls::incrementAndGet);
+        var res = flight.call("key", calls::incrementAndGet);
+
+        assertEquals(2, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldNotShareBetweenKeys() {
+        var flight = new SingleFlight<String, Integer>();
+
+        var res = flight.call("a", () -> flight.call("b", () -> 10).okOrThrow() + 1);
+
+        assertEquals(11, res.okOrThrow());
+    }
+
+    @Test
+    public void shouldReturnErrWhenInterruptedWhileWaiting() throws InterruptedException {
+        var flight = new SingleFlight<String, Integer>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var leader = Thread.ofVirtual().start(() -> flight.call("key", () -> {
+            started.countDown();
+            release.await();
+            return 10;
+        }));
+        started.await();
+
+        Thread.currentThread().interrupt();
+        var res = flight.call("key", () -> 20);
+
+        assertTrue(Thread.interrupted());
+        assertInstanceOf(InterruptedException.class, res.errOrThrow().getWrapped());
+
+        release.countDown();
+        leader.join();
+    }
+}
@@ -0,0 +1,242 @@
+package io.erroj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class StagedPipelineTest {
+
+    @Test
+    public void shouldRunEveryStage() throws InterruptedException {
+        Set<Integer> stored = ConcurrentHashMap.newKeySet();
+
+        var running = StagedPipeline.<String>source()
+                .stage("parse", 2, 16, Integer::valueOf)
+                .stage("double", 3, 16, (Integer i) -> {
+                    return i * 2;
+                })
+                .stage("store", 1, 16, (Integer i) -> {
+                    stored.add(i);
+                    return i;
+                })
+                .start(out -> {
+                }, dead -> {
+                });
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(running.submit(Integer.toString(i)));
+        }
+        running.close();
+
+        assertEquals(IntStream.range(0, 1000).map(i -> i * 2).boxed().collect(Collectors.toSet()), stored);
+    }
+
+    @Test
+    public void shouldGiveLastStageValuesToOutput() throws InterruptedException {
+        Set<String> output = ConcurrentHashMap.newKeySet();
+
+        var running = StagedPipeline.<String>source()
+                .stage("parse", 2, 16, Integer::valueOf)
+                .stage("format", 2, 16, (Integer i) -> {
+                    return "#" + i;
+                })
+                .start(output::add, dead -> {
+                });
+
+        running.submit("1");
+        running.submit("x");
+        running.submit("2");
+        running.close();
+
+        assertEquals(Set.of("#1", "#2"), output);
+    }
+
+    @Test
+    public void shouldSendOutputFailuresToDeadLetters() throws InterruptedException {
+        var dead = new ConcurrentLinkedQueue<StagedPipeline.DeadLetter<Integer>>();
+
+        var running = StagedPipeline.<Integer>source()
+                .stage("identity", 1, 16, (Integer i) -> {
+                    return i;
+                })
+                .start(out -> {
+                    throw new IllegalStateException("sink down");
+                }, dead::add);
+
+        running.submit(1);
+        running.close();
+
+        assertEquals(1, dead.size());
+        assertEquals("identity", dead.peek().stage());
+        assertEquals("sink down", dead.peek().error().getMessage());
+    }
+
+    @Test
+    public void shouldCloseWhenWorkerInterrupted() throws InterruptedException {
+        var running = StagedPipeline.<Integer>source()
+                .stage("first", 1, 16, (Integer i) -> {
+                    // interrupts the worker, whose next put then fails
+                    Thread.currentThread().interrupt();
+                    return i;
+                })
+                .stage("second", 1, 16, (Integer i) -> {
+                    return i;
+                })
+                .start(out -> {
+                }, dead -> {
+                });
+
+        running.submit(1);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), running::close);
+    }
+
+    @Test
+    public void shouldSendFailuresToDeadLetters() throws InterruptedException {
+        var dead = new ConcurrentLinkedQueue<StagedPipeline.DeadLetter<String>>();
+
+        var running = StagedPipeline.<String>source()
+                .stage("parse", 1, 16, Integer::valueOf)
+                .stage("check", 1, 16, (Integer i) -> {
+                    if (i < 0)
+                        throw new IllegalArgumentException("negative");
+                    return i;
+                })
+                .start(out -> {
+                }, dead::add);
+
+        running.submit("1");
+        running.submit("x");
+        running.submit("-1");
+        running.close();
+
+        assertEquals(2, dead.size());
+        var parse = dead.stream().filter(d -> d.stage().equals("parse")).findFirst().orElseThrow();
+        assertEquals("x", parse.input());
+        assertInstanceOf(NumberFormatException.class, parse.error().getWrapped());
+        var check = dead.stream().filter(d -> d.stage().equals("check")).findFirst().orElseThrow();
+        assertEquals("-1", check.input());
+        assertEquals("negative", check.error().getMessage());
+    }
+
+    @Test
+    public void shouldCountDeadLetterSinkFailures() throws InterruptedException {
+        var running = StagedPipeline.<String>source()
+                .stage("parse", 1, 16, Integer::valueOf)
+                .start(out -> {
+                }, dead -> {
+                    throw new IllegalStateException("sink down");
+                });
+
+        running.submit("x");
+        running.submit("1");
+        running.submit("y");
+        running.close();
+
+        var stats = running.stats().get(0);
+        assertEquals(3, stats.processed());
+        assertEquals(2, stats.errors());
+        assertEquals(2, stats.deadLetterFailures());
+    }
+
+    @Test
+    public void shouldReportStageStats() throws InterruptedException {
+        var running = StagedPipeline.<String>source()
+                .stage("parse", 1, 16, Integer::valueOf)
+                .stage("store", 1, 8, (Integer i) -> {
+                    return i;
+                })
+                .start(out -> {
+                }, dead -> {
+                });
+
+        running.submit("1");
+        running.submit("x");
+        running.submit("3");
+        running.close();
+
+        var stats = running.stats();
+        assertEquals(List.of("parse", "store"), stats.stream().map(StagedPipeline.StageStats::name).toList());
+        assertEquals(3, stats.get(0).processed());
+        assertEquals(1, stats.get(0).errors());
+        assertEquals(0, stats.get(0).deadLetterFailures());
+        assertEquals(2, stats.get(1).processed());
+        assertEquals(0, stats.get(1).queueDepth());
+        assertEquals(8, stats.get(1).queueCapacity());
+        assertTrue(stats.get(0).throughput() > 0);
+    }
+
+    @Test
+    public void shouldBlockSubmitWhenQueuesFull() throws InterruptedException {
+        var release = new CountDownLatch(1);
+
+        var running = StagedPipeline.<Integer>source()
+                .stage("slow", 1, 1, (Integer i) -> {
+                    release.await();
+                    return i;
+                })
+                .start(out -> {
+                }, dead -> {
+                });
+
+        // one taken by the worker, one in the queue
+        running.submit(1);
+        running.submit(2);
+        var submitter = Thread.ofVirtual().start(() -> {
+            try {
+                running.submit(3);
+            } catch (InterruptedException e) {
+            }
+        });
+        while (submitter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, running.stats().get(0).queueDepth());
+
+        release.countDown();
+        submitter.join();
+        running.close();
+
+        assertEquals(3, running.stats().get(0).processed());
+    }
+
+    @Test
+    public void shouldRejectSubmitWhenClosed() throws InterruptedException {
+        var running = StagedPipeline.<Integer>source()
+                .stage("identity", 1, 1, (Integer i) -> {
+                    return i;
+                })
+                .start(out -> {
+                }, dead -> {
+                });
+
+        running.close();
+
+        assertFalse(running.submit(1));
+    }
+
+    @Test
+    public void shouldRejectInvalidStages() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StagedPipeline.<Integer>source().stage("none", 0, 1, (Integer i) -> {
+                    return i;
+                }));
+        assertThrows(IllegalStateException.class, () -> StagedPipeline.<Integer>source().start(out -> {
+        }, dead -> {
+        }));
+    }
+}
@@ -4,11 +4,23 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class VariableThrowableTest {
 
@@ -17,6 +29,18 @@ public class VariableThrowableTest {
         new VariableThrowable(new NoSuchElementException());
     }
 
+    @Test
+    public void shouldWrap() {
+        var exception = new NoSuchElementException();
+        assertEquals(exception, VariableThrowable.wrap(exception).getWrapped());
+    }
+
+    @Test
+    public void shouldNotRewrapWhenWrap() {
+        VariableThrowable vt = new VariableThrowable(new NoSuchElementException());
+        assertEquals(vt, VariableThrowable.wrap(vt));
+    }
+
     @Test
     public void shouldDoOnWhenRightThrowable() {
         VariableThrowable e = new VariableThrowable(new NoSuchElementException());
@@ -108,6 +132,35 @@ public class VariableThrowableTest {
         assertEquals(vt.getWrapped().getCause(), vt.getCause());
     }
 
+    @Test
+    public void shouldGetCauseInitializedAfterFirstRead() {
+        VariableThrowable vt = new VariableThrowable(new IllegalStateException());
+        var cause = new NoSuchElementException();
+
+        assertEquals(null, vt.getCause());
+        vt.initCause(cause);
+
+        assertSame(cause, vt.getCause());
+        assertSame(cause, vt.getWrapped().getCause());
+    }
+
+    @Test
+    public void shouldDelegateGetCauseWhenOverridden() {
+        var causes = new ArrayDeque<Throwable>(List.of(new IllegalStateException(), new ArithmeticException()));
+        var wrapped = new Exception() {
+            @Override
+            public Throwable getCause() {
+                return causes.peek();
+            }
+        };
+        VariableThrowable vt = new VariableThrowable(wrapped);
+
+        assertInstanceOf(IllegalStateException.class, vt.getCause());
+        causes.pop();
+
+        assertInstanceOf(ArithmeticException.class, vt.getCause());
+    }
+
     @Test
     public void shouldGetLocalizedMessage() {
         VariableThrowable vt = new VariableThrowable(new NoSuchElementException());
@@ -165,4 +218,100 @@ public class VariableThrowableTest {
         assertTrue(res.isErr());
     }
 
+    @Test
+    public void shouldNotBuildLazyWhenRescued() {
+        var vt = VariableThrowable.lazy(NoSuchElementException.class, () -> {
+            fail("This lambda should not be invoked");
+            return new NoSuchElementException();
+        });
+
+        var res = new Err<Integer, VariableThrowable>(vt).rescue(
+                Rescue.of(ArithmeticException.class, 1),
+                Rescue.of(NoSuchElementException.class, 10));
+
+        assertEquals(10, res.okOrThrow());
+        assertEquals(10, vt.rescue(RescuePlan.of(Rescue.of(RuntimeException.class, 10))).okOrThrow());
+        assertFalse(vt.isMaterialized());
+    }
+
+    @Test
+    public void shouldNotBuildLazyWhenClassBasedOperations() {
+        var vt = VariableThrowable.lazy(NoSuchElementException.class, () -> {
+            fail("This lambda should not be invoked");
+            return new NoSuchElementException();
+        });
+
+        final boolean[] wasVisited = { false };
+
+        vt.doOn(RuntimeException.class, () -> {
+            wasVisited[0] = true;
+        });
+        vt.doOn(ArithmeticException.class, e -> fail("This lambda should not be invoked"));
+
+        assertTrue(wasVisited[0]);
+        assertTrue(vt.getThrowable(ArithmeticException.class).isEmpty());
+        assertEquals(NoSuchElementException.class, vt.getWrappedClass());
+        assertFalse(vt.isMaterialized());
+    }
+
+    @Test
+    public void shouldBuildLazyOnceWhenAccessed() {
+        var exception = new NoSuchElementException("missing");
+        final int[] calls = { 0 };
+
+        var res = Result.<Integer, NoSuchElementException>lazyErr(NoSuchElementException.class, () -> {
+            calls[0]++;
+            return exception;
+        });
+
+        assertEquals(0, calls[0]);
+        assertEquals("missing", res.errOrThrow().getMessage());
+        assertEquals(exception, res.errOrThrow().getThrowable(NoSuchElementException.class).orElseThrow());
+        assertThrows(VariableThrowable.class, () -> res.orReThrow());
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void shouldBuildLazyOnceWhenConcurrentAccesses() throws InterruptedException {
+        var vt = VariableThrowable.lazy(NoSuchElementException.class, NoSuchElementException::new);
+
+        var seen = new ConcurrentLinkedQueue<Throwable>();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 16; i++) {
+            threads.add(Thread.ofPlatform().start(() -> seen.add(vt.getWrapped())));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(16, seen.size());
+        assertEquals(1, seen.stream().distinct().count());
+        assertSame(vt.getWrapped(), seen.peek());
+    }
+
+    @Test
+    public void shouldRejectNullFromLazySupplier() {
+        var vt = VariableThrowable.lazy(NoSuchElementException.class, () -> null);
+
+        assertThrows(NullPointerException.class, vt::getWrapped);
+        assertFalse(vt.isMaterialized());
+    }
+
+    @Test
+    public void shouldBuildLazyBeforeSerializing() throws IOException, ClassNotFoundException {
+        var vt = VariableThrowable.lazy(NoSuchElementException.class, () -> new NoSuchElementException("missing"));
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(vt);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var copy = (VariableThrowable) in.readObject();
+
+            assertTrue(copy.isMaterialized());
+            assertEquals("missing", copy.getMessage());
+            assertEquals(NoSuchElementException.class, copy.getWrappedClass());
+        }
+    }
+
 }